@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드 부하 비교
+# /api/auth/verify, /api/users/{id} 에 대해 처리량(req/s)과 p99 를 측정해 build/reports/thread-modes.md 로 저장
+#
+# 필요: 로컬 PostgreSQL (application.properties 의 spring.datasource.*), wrk, jq, curl
+# 사용: scripts/compare-thread-modes.sh [duration] [connections]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+DURATION=${1:-30s}
+CONNECTIONS=${2:-400}
+THREADS=${WRK_THREADS:-4}
+PORT=${PORT:-18080}
+BASE="http://localhost:${PORT}"
+REPORT=build/reports/thread-modes.md
+
+sh ./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+mkdir -p build/reports
+
+echo "| mode | endpoint | req/s | p99 |" > "$REPORT"
+echo "|------|----------|-------|-----|" >> "$REPORT"
+
+run_mode() {
+  local mode=$1
+  local profile_arg=""
+  if [ "$mode" = "virtual" ]; then
+    profile_arg="--spring.profiles.active=virtual"
+  fi
+
+  # 가상 스레드 pinning 이 있으면 로그로 확인할 수 있도록
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" $profile_arg \
+      > "build/reports/app-${mode}.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" RETURN
+
+  until curl -sf "${BASE}/api/users?size=1" > /dev/null; do sleep 1; done
+
+  local suffix="$mode-$RANDOM$RANDOM"
+  curl -sf -X POST "${BASE}/api/auth/register" -H 'Content-Type: application/json' \
+      -d "{\"username\":\"load${suffix:0:12}\",\"email\":\"load-${suffix}@kduck.test\",\"password\":\"password123\",\"nickname\":\"load\"}" > /dev/null
+  local login
+  login=$(curl -sf -X POST "${BASE}/api/auth/login" -H 'Content-Type: application/json' \
+      -d "{\"email\":\"load-${suffix}@kduck.test\",\"password\":\"password123\"}")
+  local token user_id
+  token=$(echo "$login" | jq -r '.data.token')
+  user_id=$(echo "$login" | jq -r '.data.user.id')
+
+  # 워밍업
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d10s "${BASE}/api/users/${user_id}" > /dev/null
+
+  measure "$mode" "/api/auth/verify" -H "Authorization: Bearer ${token}" "${BASE}/api/auth/verify"
+  measure "$mode" "/api/users/{id}" "${BASE}/api/users/${user_id}"
+}
+
+measure() {
+  local mode=$1 endpoint=$2
+  shift 2
+  local out
+  out=$(wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "$@")
+  local rps p99
+  rps=$(echo "$out" | awk '/Requests\/sec/ {print $2}')
+  p99=$(echo "$out" | awk '$1 == "99%" {print $2}')
+  echo "| $mode | $endpoint | $rps | $p99 |" >> "$REPORT"
+}
+
+run_mode platform
+run_mode virtual
+
+cat "$REPORT"
+if grep -q "<== monitors" build/reports/app-virtual.log; then
+  echo "WARNING: pinned virtual threads detected, see build/reports/app-virtual.log"
+fi
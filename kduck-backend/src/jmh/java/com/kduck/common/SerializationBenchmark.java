@@ -0,0 +1,61 @@
+package com.kduck.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kduck.dto.UserDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 JSON 직렬화 - 단건 ApiResponse<UserDto.Response> / 목록 페이지
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<UserDto.Response> single;
+    private UserDto.PageResponse page;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트와 같은 설정 (JavaTimeModule, 날짜 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        single = ApiResponse.success(user(1));
+        List<UserDto.Response> users = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            users.add(user(i));
+        }
+        page = new UserDto.PageResponse(users, "MjAyNC0wMS0wMVQwMDowMHwx");
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeUserPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static UserDto.Response user(long id) {
+        UserDto.Response user = new UserDto.Response();
+        user.setId(id);
+        user.setUsername("fan" + id);
+        user.setEmail("fan" + id + "@kduck.com");
+        user.setNickname("케이덕팬" + id);
+        user.setProfileImageUrl("/images/fan" + id + ".jpg");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+}
@@ -0,0 +1,66 @@
+package com.kduck.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil 토큰 발급 / 검증 / claims 추출
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "kduck-secret-key-for-jwt-token-generation-2024";
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String hotToken;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        TokenDenylist denylist = new TokenDenylist(new SimpleMeterRegistry(), 86400000L, 60000L);
+        // 폐기 목록에 다른 토큰이 들어 있는 상태에서 검증 (조회 비용 포함)
+        for (int i = 0; i < 10000; i++) {
+            denylist.revokeToken("revoked-" + i, System.currentTimeMillis() + 3600000L);
+        }
+        jwtUtil = new JwtUtil(SECRET, 86400000L, 10000, denylist);
+        // 캐시를 1건으로 제한하고 토큰을 돌려가며 검증 -> 매번 서명 검증 경로
+        uncachedJwtUtil = new JwtUtil(SECRET, 86400000L, 1, denylist);
+
+        hotToken = jwtUtil.generateToken("fan@kduck.com", 42L);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtUtil.generateToken("fan" + i + "@kduck.com", (long) i);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("fan@kduck.com", 42L);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtUtil.validateToken(hotToken);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        next = (next + 1) & (TOKEN_COUNT - 1);
+        return uncachedJwtUtil.validateToken(tokens[next]);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(hotToken);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtUtil.getEmailFromToken(hotToken);
+    }
+}
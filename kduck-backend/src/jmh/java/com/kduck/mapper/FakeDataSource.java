@@ -0,0 +1,42 @@
+package com.kduck.mapper;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.function.Supplier;
+
+// 어떤 쿼리든 고정된 행(FakeResultSet)을 돌려주는 DataSource - DB 없이 JdbcTemplate 경로만 측정
+final class FakeDataSource {
+
+    private FakeDataSource() {
+    }
+
+    static DataSource of(Object[][] rows) {
+        PreparedStatement statement = proxy(PreparedStatement.class, "executeQuery", () -> FakeResultSet.of(rows));
+        Connection connection = proxy(Connection.class, "prepareStatement", () -> statement);
+        return proxy(DataSource.class, "getConnection", () -> connection);
+    }
+
+    // 지정한 메서드만 값을 돌려주고 나머지(setLong, close 등)는 아무것도 하지 않음
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, String methodName, Supplier<Object> result) {
+        return (T) Proxy.newProxyInstance(FakeDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(methodName)) {
+                        return result.get();
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,58 @@
+package com.kduck.mapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+// 고정된 행을 반복해서 돌려주는 ResultSet (DB 없이 row mapper 만 측정)
+final class FakeResultSet {
+
+    private FakeResultSet() {
+    }
+
+    // rows[i][c] = i 번째 행의 c+1 번째 컬럼 값
+    static ResultSet of(Object[][] rows) {
+        int[] cursor = {-1};
+        boolean[] lastWasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(FakeResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++cursor[0] < rows.length;
+                        case "beforeFirst":
+                            cursor[0] = -1;
+                            return null;
+                        case "close":
+                            return null;
+                        case "wasNull":
+                            return lastWasNull[0];
+                        case "getLong":
+                            return number(value(rows, cursor, args, lastWasNull)).longValue();
+                        case "getInt":
+                            return number(value(rows, cursor, args, lastWasNull)).intValue();
+                        case "getBoolean": {
+                            Object value = value(rows, cursor, args, lastWasNull);
+                            return value != null && (Boolean) value;
+                        }
+                        case "getString":
+                        case "getTimestamp":
+                        case "getObject":
+                            return value(rows, cursor, args, lastWasNull);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Object value(Object[][] rows, int[] cursor, Object[] args, boolean[] lastWasNull) {
+        if (!(args[0] instanceof Integer index)) {
+            throw new UnsupportedOperationException("column label access");
+        }
+        Object value = rows[cursor[0]][index - 1];
+        lastWasNull[0] = value == null;
+        return value;
+    }
+
+    private static Number number(Object value) {
+        return value == null ? 0 : (Number) value;
+    }
+}
@@ -0,0 +1,67 @@
+package com.kduck.mapper;
+
+import com.kduck.common.DomainException;
+import com.kduck.dto.UserDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 없는 사용자 조회 (잘못 입력한 이메일 로그인 등) - JdbcTemplate 경로만, DB 왕복 제외
+//   queryForObjectMiss: 예전 방식 (queryForObject 가 EmptyResultDataAccessException 을 던지고 catch 해서 empty)
+//   findByIdMiss:       query + singleResult (예외 없음), findByIdHit 와 비슷해야 함
+//   *Exception:         서비스의 "찾을 수 없음" 예외 생성 - 스택 트레이스 유무 (실제 요청은 Tomcat/Spring 프레임이 더해져 스택이 훨씬 깊음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LookupMissBenchmark {
+
+    private UserMapper emptyMapper;
+    private UserMapper singleRowMapper;
+    private JdbcTemplate emptyJdbcTemplate;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[][] row = {{1L, "fan1", "fan1@kduck.com", "팬1", null, Boolean.FALSE, now, now}};
+        emptyJdbcTemplate = new JdbcTemplate(FakeDataSource.of(new Object[0][]));
+        emptyMapper = new UserMapper(emptyJdbcTemplate);
+        singleRowMapper = new UserMapper(new JdbcTemplate(FakeDataSource.of(row)));
+        id = 404L;
+    }
+
+    @Benchmark
+    public Optional<UserDto.Response> queryForObjectMiss() {
+        String sql = "SELECT * FROM users WHERE id = ?";
+        try {
+            return Optional.ofNullable(emptyJdbcTemplate.queryForObject(sql, emptyMapper.profileRowMapper, id));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public Optional<UserDto.Response> findByIdMiss() {
+        return emptyMapper.findById(id);
+    }
+
+    @Benchmark
+    public Optional<UserDto.Response> findByIdHit() {
+        return singleRowMapper.findById(id);
+    }
+
+    @Benchmark
+    public RuntimeException runtimeException() {
+        return new RuntimeException("사용자를 찾을 수 없습니다: " + id);
+    }
+
+    @Benchmark
+    public RuntimeException stacklessDomainException() {
+        return new DomainException.NotFound("사용자를 찾을 수 없습니다: " + id);
+    }
+}
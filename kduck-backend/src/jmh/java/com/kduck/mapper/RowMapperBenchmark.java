@@ -0,0 +1,57 @@
+package com.kduck.mapper;
+
+import com.kduck.dto.UserDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// UserMapper 프로필 row mapper - 한 행 / 한 페이지(100행)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowMapperBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private UserMapper userMapper;
+    private ResultSet singleRow;
+    private ResultSet page;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapper(null);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[][] rows = new Object[PAGE_SIZE][];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            rows[i] = new Object[]{(long) i, "fan" + i, "fan" + i + "@kduck.com", "팬" + i,
+                    "/images/fan" + i + ".jpg", Boolean.FALSE, now, now};
+        }
+        singleRow = FakeResultSet.of(new Object[][]{rows[0]});
+        page = FakeResultSet.of(rows);
+    }
+
+    @Benchmark
+    public UserDto.Response mapRow() throws SQLException {
+        singleRow.beforeFirst();
+        singleRow.next();
+        return userMapper.profileRowMapper.mapRow(singleRow, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<UserDto.Response> mapPage() throws SQLException {
+        page.beforeFirst();
+        List<UserDto.Response> users = new ArrayList<>(PAGE_SIZE);
+        int rowNum = 0;
+        while (page.next()) {
+            users.add(userMapper.profileRowMapper.mapRow(page, rowNum++));
+        }
+        return users;
+    }
+}
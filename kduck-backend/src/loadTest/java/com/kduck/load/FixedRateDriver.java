@@ -0,0 +1,104 @@
+package com.kduck.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// 고정 비율 부하 (open loop) - i 번째 요청의 예정 시각은 start + i * interval 이고, 응답을 기다리지 않고 다음 요청을 보냄
+// 지연은 예정 시각부터 응답까지 (coordinated omission 보정) - 서버가 멈추면 그동안 보냈어야 할 요청의 대기 시간도 모두 잡힘
+// 실제 보낸 시각부터의 시간은 service 로 따로 기록 (둘의 차이가 크면 부하 생성기 쪽이 밀린 것)
+final class FixedRateDriver {
+
+    // µs 단위, 최대 1분 (타임아웃보다 길게)
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Traffic traffic;
+    private final int rate;
+
+    FixedRateDriver(Traffic traffic, int rate) {
+        this.traffic = traffic;
+        this.rate = rate;
+    }
+
+    Map<Traffic.Endpoint, Stats> run(Duration duration) {
+        Map<Traffic.Endpoint, Stats> stats = new EnumMap<>(Traffic.Endpoint.class);
+        for (Traffic.Endpoint endpoint : Traffic.Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.toSeconds() * rate;
+        AtomicLong completed = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Traffic.Endpoint endpoint = traffic.pick();
+            Stats endpointStats = stats.get(endpoint);
+            long sent = System.nanoTime();
+            traffic.send(endpoint).whenComplete((ok, e) -> {
+                long done = System.nanoTime();
+                endpointStats.record(intended, sent, done, Boolean.TRUE.equals(ok));
+                lastCompletion.accumulateAndGet(done, Math::max);
+                completed.incrementAndGet();
+            });
+        }
+        // 남은 응답은 요청 타임아웃 안에 모두 끝남
+        while (completed.get() < total) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        double elapsedSeconds = Math.max(lastCompletion.get() - start, 1) / 1e9;
+        stats.values().forEach(s -> s.elapsedSeconds = elapsedSeconds);
+        return stats;
+    }
+
+    static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+        final Histogram service = new ConcurrentHistogram(MAX_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        double elapsedSeconds;
+
+        private void record(long intended, long sent, long done, boolean ok) {
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(done - intended), MAX_MICROS));
+            service.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(done - sent), MAX_MICROS));
+            if (!ok) {
+                errors.increment();
+            }
+        }
+
+        long count() {
+            return latency.getTotalCount();
+        }
+
+        // 성공한 요청 기준 처리량 (req/s)
+        double throughput() {
+            return (count() - errors.sum()) / elapsedSeconds;
+        }
+
+        double errorRate() {
+            return count() == 0 ? 0 : (double) errors.sum() / count();
+        }
+
+        double latencyMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double serviceMillis(double percentile) {
+            return service.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.kduck.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 인증/사용자 API 부하 + 지연 SLO 회귀 테스트 (./gradlew loadTest)
+// bootJar 를 로컬 PostgreSQL 에 붙여 띄우고, load 사용자를 채운 뒤 고정 비율로 섞인 요청을 보내 엔드포인트별 지연/처리량 측정
+// 결과는 build/reports/load (summary.md, results.json, 엔드포인트별 .hgrm)
+// baseline(src/loadTest/baseline.json) 대비 p99 가 tolerance 보다 늘거나 처리량이 줄면, 또는 오류율이 max-error-rate 를 넘으면 실패
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        String jar = System.getProperty("load.jar");
+        int port = Integer.getInteger("load.port", 18095);
+        int rate = Integer.getInteger("load.rate", 200);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 60));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 15));
+        int seedUsers = Integer.getInteger("load.seed-users", 100_000);
+        int bcryptStrength = Integer.getInteger("load.bcrypt-strength", 10);
+        double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.10"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+        boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+        Path reportDir = Paths.get(System.getProperty("load.report-dir", "build/reports/load"));
+        Path baselineFile = Paths.get(System.getProperty("load.baseline", "src/loadTest/baseline.json"));
+        String dbUrl = System.getProperty("load.db.url", "jdbc:postgresql://localhost:5432/kduck_db");
+        String dbUser = System.getProperty("load.db.username", "postgres");
+        String dbPassword = System.getProperty("load.db.password", "postgres");
+
+        if (jar == null || !new File(jar).isFile()) {
+            throw new IllegalStateException("load.jar 없음: " + jar);
+        }
+        Files.createDirectories(reportDir);
+
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // 로그인 시도 제한은 끔 (같은 IP 에서 초당 수십 건을 보내므로)
+        Process app = new ProcessBuilder(javaExecutable(), "-jar", jar,
+                "--server.port=" + port,
+                "--spring.datasource.url=" + dbUrl,
+                "--spring.datasource.username=" + dbUser,
+                "--spring.datasource.password=" + dbPassword,
+                "--password.bcrypt.strength=" + bcryptStrength,
+                "--login.throttle.enabled=false")
+                .redirectErrorStream(true)
+                .redirectOutput(reportDir.resolve("app.log").toFile())
+                .start();
+        try {
+            awaitReady(client, baseUrl, app, reportDir);
+
+            // 스키마는 앱이 Flyway 로 만든 뒤에 채움
+            Seeder seeder = new Seeder(dbUrl, dbUser, dbPassword);
+            seeder.seed(seedUsers, bcryptStrength);
+            List<Seeder.SeedUser> users = seeder.sample(10_000);
+            if (users.isEmpty()) {
+                throw new IllegalStateException("load 사용자가 없습니다.");
+            }
+            List<String> tokens = login(client, baseUrl, users.subList(0, Math.min(200, users.size())));
+
+            Traffic traffic = new Traffic(client, baseUrl, users, tokens, Duration.ofSeconds(30));
+            FixedRateDriver driver = new FixedRateDriver(traffic, rate);
+            System.out.printf("warmup: %d req/s, %ds%n", rate, warmup.toSeconds());
+            driver.run(warmup);
+            System.out.printf("측정: %d req/s, %ds%n", rate, duration.toSeconds());
+            Map<Traffic.Endpoint, FixedRateDriver.Stats> stats = driver.run(duration);
+
+            ObjectNode results = report(stats, rate, duration, reportDir);
+            List<String> failures = new ArrayList<>();
+            stats.forEach((endpoint, s) -> {
+                if (s.errorRate() > maxErrorRate) {
+                    failures.add(String.format("%s: 오류율 %.2f%% (최대 %.2f%%)",
+                            endpoint.label, s.errorRate() * 100, maxErrorRate * 100));
+                }
+            });
+
+            if (updateBaseline) {
+                Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+                JSON.writeValue(baselineFile.toFile(), results);
+                System.out.println("baseline 저장: " + baselineFile);
+            } else {
+                failures.addAll(compare(results, baselineFile, tolerance));
+            }
+
+            if (!failures.isEmpty()) {
+                failures.forEach(System.out::println);
+                throw new IllegalStateException("부하 테스트 SLO 위반 " + failures.size() + "건 - " + reportDir);
+            }
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        }
+    }
+
+    private static String javaExecutable() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static void awaitReady(HttpClient client, String baseUrl, Process app, Path reportDir) throws Exception {
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("앱 기동 실패 - " + reportDir.resolve("app.log"));
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("앱 기동 시간 초과 - " + reportDir.resolve("app.log"));
+    }
+
+    // verify 요청에 쓸 토큰
+    private static List<String> login(HttpClient client, String baseUrl, List<Seeder.SeedUser> users) throws Exception {
+        List<String> tokens = new ArrayList<>(users.size());
+        for (Seeder.SeedUser user : users) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + user.email() + "\",\"password\":\"" + Seeder.PASSWORD + "\"}"))
+                    .build();
+            JsonNode body = JSON.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            if (body.path("success").asBoolean()) {
+                tokens.add(body.path("data").path("token").asText());
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalStateException("load 사용자로 로그인할 수 없습니다.");
+        }
+        return tokens;
+    }
+
+    private static ObjectNode report(Map<Traffic.Endpoint, FixedRateDriver.Stats> stats, int rate, Duration duration,
+                                     Path reportDir) throws IOException {
+        ObjectNode results = JSON.createObjectNode();
+        results.put("rate", rate);
+        results.put("durationSeconds", duration.toSeconds());
+        ObjectNode endpoints = results.putObject("endpoints");
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d req/s, %ds (지연은 예정 시각 기준, ms)%n%n", rate, duration.toSeconds()));
+        summary.append("| endpoint | count | errors | req/s | p50 | p90 | p99 | p99.9 | max | service p99 |\n");
+        summary.append("|------|------|------|------|------|------|------|------|------|------|\n");
+
+        for (Map.Entry<Traffic.Endpoint, FixedRateDriver.Stats> entry : stats.entrySet()) {
+            Traffic.Endpoint endpoint = entry.getKey();
+            FixedRateDriver.Stats s = entry.getValue();
+
+            ObjectNode node = endpoints.putObject(endpoint.name());
+            node.put("count", s.count());
+            node.put("errors", s.errors.sum());
+            node.put("throughput", s.throughput());
+            node.put("p50Ms", s.latencyMillis(50));
+            node.put("p99Ms", s.latencyMillis(99));
+            node.put("p999Ms", s.latencyMillis(99.9));
+            node.put("serviceP99Ms", s.serviceMillis(99));
+
+            summary.append(String.format("| %s | %d | %d | %.1f |", endpoint.label, s.count(), s.errors.sum(),
+                    s.throughput()));
+            for (double percentile : PERCENTILES) {
+                summary.append(String.format(" %.1f |", s.latencyMillis(percentile)));
+            }
+            summary.append(String.format(" %.1f | %.1f |%n", s.latency.getMaxValue() / 1000.0, s.serviceMillis(99)));
+
+            // HdrHistogram 분포 (ms) - HistogramLogAnalyzer 등으로 그래프
+            try (PrintStream out = new PrintStream(reportDir.resolve(endpoint.name().toLowerCase() + ".hgrm").toFile())) {
+                s.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Files.writeString(reportDir.resolve("summary.md"), summary);
+        JSON.writeValue(reportDir.resolve("results.json").toFile(), results);
+        System.out.print(summary);
+        return results;
+    }
+
+    // 같은 비율로 잰 baseline 과만 비교 (비율이 다르면 지연 분포가 달라서 의미 없음)
+    // baseline 이 없거나 비율/엔드포인트가 맞지 않으면 비교할 수 없으므로 실패 (-PloadUpdateBaseline 으로 다시 저장)
+    private static List<String> compare(ObjectNode results, Path baselineFile, double tolerance) throws IOException {
+        List<String> failures = new ArrayList<>();
+        if (!Files.exists(baselineFile)) {
+            failures.add("baseline " + baselineFile + " 없음 - -PloadUpdateBaseline 으로 저장");
+            return failures;
+        }
+        JsonNode baseline = JSON.readTree(baselineFile.toFile());
+        if (baseline.path("rate").asInt() != results.path("rate").asInt()) {
+            failures.add(String.format("baseline 비율(%d req/s)이 이번 실행(%d req/s)과 다름 - 같은 비율로 실행하거나 -PloadUpdateBaseline 으로 다시 저장",
+                    baseline.path("rate").asInt(), results.path("rate").asInt()));
+            return failures;
+        }
+
+        results.path("endpoints").properties().forEach(entry -> {
+            JsonNode previous = baseline.path("endpoints").path(entry.getKey());
+            if (previous.isMissingNode()) {
+                failures.add(entry.getKey() + ": baseline 에 없음 - -PloadUpdateBaseline 으로 다시 저장");
+                return;
+            }
+            JsonNode current = entry.getValue();
+            double p99Before = previous.path("p99Ms").asDouble();
+            double p99After = current.path("p99Ms").asDouble();
+            double throughputBefore = previous.path("throughput").asDouble();
+            double throughputAfter = current.path("throughput").asDouble();
+            String line = String.format("%s: p99 %.1f -> %.1f ms, %.1f -> %.1f req/s", entry.getKey(),
+                    p99Before, p99After, throughputBefore, throughputAfter);
+            System.out.println(line);
+            if (p99After > p99Before * (1 + tolerance) || throughputAfter < throughputBefore * (1 - tolerance)) {
+                failures.add(line + String.format(" (허용 %.0f%%)", tolerance * 100));
+            }
+        });
+        return failures;
+    }
+}
@@ -0,0 +1,119 @@
+package com.kduck.load;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 테스트용 사용자 (load_{n} / load-{n}@kduck.test / 비밀번호 PASSWORD) 를 COPY 로 채움
+// 이미 있는 사용자는 건너뛰므로 여러 번 실행해도 됨 - 스키마는 먼저 띄운 앱이 Flyway 로 만들어 둔 상태여야 함
+final class Seeder {
+
+    static final String PASSWORD = "password123";
+
+    private static final int COPY_CHUNK_ROWS = 10_000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    Seeder(String url, String username, String password) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    // 해시는 한 번만 계산해서 모든 행에 사용 (앱과 같은 cost 여야 로그인 시 재해시가 일어나지 않음)
+    void seed(int count, int bcryptStrength) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            long existing = countSeeded(connection);
+            if (existing >= count) {
+                System.out.printf("seed: load 사용자 %d명 이미 있음%n", existing);
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            String hash = new BCryptPasswordEncoder(bcryptStrength).encode(PASSWORD);
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE load_users (username VARCHAR(50), email VARCHAR(255), " +
+                        "password VARCHAR(255), nickname VARCHAR(100)) ON COMMIT DROP");
+            }
+
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY load_users FROM STDIN WITH (FORMAT csv)");
+            try {
+                StringBuilder rows = new StringBuilder();
+                for (int n = 0; n < count; n++) {
+                    rows.append("load_").append(n).append(',')
+                            .append("load-").append(n).append("@kduck.test,")
+                            .append(hash).append(',')
+                            .append("load ").append(n).append('\n');
+                    if ((n + 1) % COPY_CHUNK_ROWS == 0 || n == count - 1) {
+                        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+                        copy.writeToCopy(bytes, 0, bytes.length);
+                        rows.setLength(0);
+                    }
+                }
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                int inserted = statement.executeUpdate("INSERT INTO users (username, email, password, nickname) " +
+                        "SELECT username, email, password, nickname FROM load_users ON CONFLICT DO NOTHING");
+                connection.commit();
+                connection.setAutoCommit(true);
+                statement.execute("ANALYZE users");
+                System.out.printf("seed: %d명 추가 (%dms)%n", inserted, System.currentTimeMillis() - startedAt);
+            }
+        }
+    }
+
+    // 요청에 쓸 사용자 표본 (id, 번호)
+    List<SeedUser> sample(int limit) throws SQLException {
+        String sql = "SELECT id, substring(username FROM 6)::int FROM users " +
+                "WHERE username LIKE 'load\\_%' AND substring(username FROM 6) ~ '^[0-9]+$' LIMIT ?";
+        List<SeedUser> users = new ArrayList<>(limit);
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setInt(1, limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    users.add(new SeedUser(rs.getLong(1), rs.getInt(2)));
+                }
+            }
+        }
+        return users;
+    }
+
+    private static long countSeeded(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM users WHERE username LIKE 'load\\_%'")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    record SeedUser(long id, int number) {
+        String username() {
+            return "load_" + number;
+        }
+
+        String email() {
+            return "load-" + number + "@kduck.test";
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.kduck.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 엔드포인트별 요청 구성 - 비율은 weight (가입/로그인은 적고 조회가 대부분인 실제 패턴에 맞춤)
+// 성공 기준: 2xx 이고, /api/auth 는 본문이 success=true (실패도 200 으로 내려주므로)
+final class Traffic {
+
+    enum Endpoint {
+        REGISTER("POST /api/auth/register", 5),
+        LOGIN("POST /api/auth/login", 10),
+        VERIFY("GET /api/auth/verify", 30),
+        GET_USER("GET /api/users/{id}", 30),
+        LIST_USERS("GET /api/users", 15),
+        UPDATE_USER("PUT /api/users/{id}", 10);
+
+        final String label;
+        final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Endpoint endpoint : ENDPOINTS) {
+            total += endpoint.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Seeder.SeedUser> users;
+    private final List<String> tokens;
+    private final Duration timeout;
+
+    // 가입 요청의 사용자명 - 실행마다 다른 접두사 (username 최대 20자)
+    private final String registerPrefix;
+    private final AtomicLong registerSequence = new AtomicLong();
+
+    Traffic(HttpClient client, String baseUrl, List<Seeder.SeedUser> users, List<String> tokens, Duration timeout) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.tokens = tokens;
+        this.timeout = timeout;
+        this.registerPrefix = "lr" + Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36) + "_";
+    }
+
+    Endpoint pick() {
+        int r = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : ENDPOINTS) {
+            r -= endpoint.weight;
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+        return ENDPOINTS[ENDPOINTS.length - 1];
+    }
+
+    // 완료되면 성공 여부 - 연결 실패, 타임아웃도 false
+    CompletableFuture<Boolean> send(Endpoint endpoint) {
+        HttpRequest request = request(endpoint);
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> succeeded(endpoint, response))
+                .exceptionally(e -> false);
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Seeder.SeedUser user = users.get(random.nextInt(users.size()));
+        return switch (endpoint) {
+            case REGISTER -> {
+                String username = registerPrefix + Long.toString(registerSequence.incrementAndGet(), 36);
+                yield post("/api/auth/register", json(username, username + "@load.kduck.test", username));
+            }
+            case LOGIN -> post("/api/auth/login",
+                    "{\"email\":\"" + user.email() + "\",\"password\":\"" + Seeder.PASSWORD + "\"}");
+            case VERIFY -> builder("/api/auth/verify")
+                    .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                    .GET().build();
+            case GET_USER -> builder("/api/users/" + user.id()).GET().build();
+            case LIST_USERS -> builder("/api/users?size=20").GET().build();
+            case UPDATE_USER -> builder("/api/users/" + user.id())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            json(user.username(), user.email(), "load " + user.number() + " " + random.nextInt(1000))))
+                    .build();
+        };
+    }
+
+    private HttpRequest post(String path, String body) {
+        return builder(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    }
+
+    private static String json(String username, String email, String nickname) {
+        return "{\"username\":\"" + username + "\",\"email\":\"" + email + "\",\"password\":\"" + Seeder.PASSWORD +
+                "\",\"nickname\":\"" + nickname + "\"}";
+    }
+
+    private static boolean succeeded(Endpoint endpoint, HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            return false;
+        }
+        return switch (endpoint) {
+            case REGISTER, LOGIN, VERIFY -> response.body().contains("\"success\":true");
+            default -> true;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.kduck.common;
+
+import org.springframework.http.HttpStatus;
+
+// 예상된 실패 (없음, 중복, 잘못된 요청, 포화) - GlobalExceptionHandler 가 한 곳에서 ApiResponse.error + 상태 코드로 변환
+// 흐름 제어용이라 스택 트레이스를 만들지 않음 (fillInStackTrace 비용 없음, 로그에도 위치가 필요 없음)
+public abstract class DomainException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    protected DomainException(HttpStatus status, String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    // Retry-After 헤더 (0 이면 없음)
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    // 404
+    public static class NotFound extends DomainException {
+        public NotFound(String message) {
+            super(HttpStatus.NOT_FOUND, message, 0);
+        }
+    }
+
+    // 409 - 유니크 제약 위반, 상태가 맞지 않음 (이미 전환된 게스트 등)
+    public static class Conflict extends DomainException {
+        public Conflict(String message) {
+            super(HttpStatus.CONFLICT, message, 0);
+        }
+    }
+
+    // 400
+    public static class InvalidRequest extends DomainException {
+        public InvalidRequest(String message) {
+            super(HttpStatus.BAD_REQUEST, message, 0);
+        }
+    }
+
+    // 503 + Retry-After - 전용 풀/큐 포화, 잠시 후 다시 시도하면 되는 경우
+    public static class Busy extends DomainException {
+        public Busy(String message) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, message, 1);
+        }
+    }
+
+    // 429 + Retry-After - 시도 제한
+    public static class TooManyRequests extends DomainException {
+        public TooManyRequests(String message, long retryAfterSeconds) {
+            super(HttpStatus.TOO_MANY_REQUESTS, message, retryAfterSeconds);
+        }
+    }
+}
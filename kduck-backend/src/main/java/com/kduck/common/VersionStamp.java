@@ -0,0 +1,92 @@
+package com.kduck.common;
+
+import com.kduck.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 조건부 GET 용 버전 표시 - 강한 ETag + Last-Modified
+// 버전은 updated_at (수정된 적 없으면 created_at) - 응답 본문은 이 값이 같으면 바이트 단위로 같음
+public final class VersionStamp {
+
+    private final String etag;
+    private final long lastModified; // epoch 밀리초, 모르면 -1
+
+    private VersionStamp(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static VersionStamp ofUser(Long id, LocalDateTime version) {
+        long millis = toMillis(version);
+        return new VersionStamp("\"u" + id + "-" + Long.toHexString(millis) + "\"", millis);
+    }
+
+    public static VersionStamp ofUser(UserDto.Response user) {
+        return ofUser(user.getId(), versionOf(user));
+    }
+
+    // 목록 - 페이지에 든 (id, 버전) 순서와 다음 페이지 유무로 해시 (추가/삭제/수정 모두 반영)
+    public static VersionStamp ofPage(Map<Long, LocalDateTime> versions, boolean hasMore) {
+        long hash = 0xcbf29ce484222325L;
+        long lastModified = -1;
+        for (Map.Entry<Long, LocalDateTime> entry : versions.entrySet()) {
+            long millis = toMillis(entry.getValue());
+            hash = mix(hash, entry.getKey());
+            hash = mix(hash, millis);
+            lastModified = Math.max(lastModified, millis);
+        }
+        hash = mix(hash, hasMore ? 1 : 0);
+        return new VersionStamp("\"p" + Long.toHexString(hash) + "-" + versions.size() + "\"", lastModified);
+    }
+
+    public static VersionStamp ofPage(List<UserDto.Response> users, boolean hasMore) {
+        Map<Long, LocalDateTime> versions = new LinkedHashMap<>();
+        for (UserDto.Response user : users) {
+            versions.put(user.getId(), versionOf(user));
+        }
+        return ofPage(versions, hasMore);
+    }
+
+    // If-None-Match 가 있으면 그것만 보고 (GET 이므로 약한 비교), 없으면 If-Modified-Since (초 단위)
+    public boolean isNotModified(List<String> ifNoneMatch, long ifModifiedSince) {
+        if (!ifNoneMatch.isEmpty()) {
+            for (String tag : ifNoneMatch) {
+                String opaque = tag.startsWith("W/") ? tag.substring(2) : tag;
+                if (opaque.equals("*") || opaque.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModified >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    public static LocalDateTime versionOf(UserDto.Response user) {
+        return user.getUpdatedAt() != null ? user.getUpdatedAt() : user.getCreatedAt();
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    private static long toMillis(LocalDateTime version) {
+        return version == null ? -1 : version.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // FNV-1a (8 바이트 단위)
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
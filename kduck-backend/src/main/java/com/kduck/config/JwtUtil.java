@@ -2,69 +2,181 @@ package com.kduck.config;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:kduck-secret-key-for-jwt-token-generation-2024}")
-    private String secretKey;
+    private final long expiration;
+    private final int verifiedCacheMaxSize;
 
-    @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
-    private long expiration;
+    // 서명 키와 파서는 기동 시 한 번만 생성 (둘 다 thread-safe)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    private final MessageDigest digestPrototype;
+    private final TokenDenylist denylist;
+
+    // 검증 완료된 토큰 캐시 (토큰 다이제스트 -> claims), 토큰 만료 시각에 제거
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    public JwtUtil(@Value("${jwt.secret:kduck-secret-key-for-jwt-token-generation-2024}") String secretKey,
+                   @Value("${jwt.expiration:86400000}") long expiration, // 24시간 (밀리초)
+                   @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize,
+                   TokenDenylist denylist) {
+        this.expiration = expiration;
+        this.denylist = denylist;
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        try {
+            this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     // 토큰 생성
+    @Timed("kduck.jwt.issue")
     public String generateToken(String email, Long userId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("userId", userId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    // 기동 시 워밍업 (StartupWarmup) - 첫 요청이 서명/검증 경로의 클래스 로딩과 JIT 비용을 치르지 않도록
+    // 검증 캐시와 메트릭에는 남기지 않음
+    public void warmUp(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            String token = generateToken("warmup@kduck.local", -1L);
+            jwtParser.parseClaimsJws(token);
+            digest(token);
+        }
+    }
+
+    // 토큰 검증 + claims 추출 (한 번의 호출로 처리, 유효하지 않거나 폐기됐으면 empty)
+    // 폐기 여부는 캐시 적중 때도 매번 확인
+    @Timed("kduck.jwt.verify")
+    public Optional<Claims> parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt > System.currentTimeMillis()) {
+                return isRevoked(cached.claims) ? Optional.empty() : Optional.of(cached.claims);
+            }
+            verifiedTokens.remove(digest, cached);
+            return Optional.empty();
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        Date expiryDate = claims.getExpiration();
+        if (expiryDate != null) {
+            cache(digest, new VerifiedToken(claims, expiryDate.getTime()));
+        }
+        return isRevoked(claims) ? Optional.empty() : Optional.of(claims);
+    }
+
+    // jti 가 없는 예전 토큰은 사용자별 기준 시각으로만 판단
+    private boolean isRevoked(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        return denylist.isRevoked(claims.getId(), claims.get("userId", Long.class),
+                issuedAt == null ? 0 : issuedAt.getTime() / 1000);
+    }
+
     // 토큰 기반 Email 인식
+    @Timed("kduck.jwt.verify")
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseClaims(token)
+                .orElseThrow(() -> new JwtException("Invalid token"))
+                .getSubject();
     }
 
     // 토큰 기반 User ID 인식
+    @Timed("kduck.jwt.verify")
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("userId", Long.class);
+        return parseClaims(token)
+                .orElseThrow(() -> new JwtException("Invalid token"))
+                .get("userId", Long.class);
     }
 
     // 토큰 유효성 검사
+    @Timed("kduck.jwt.verify")
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    private void cache(String digest, VerifiedToken verified) {
+        if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+            evict();
+        }
+        verifiedTokens.put(digest, verified);
+    }
+
+    // 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 임의 항목을 1/8 정도 제거
+    private void evict() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(v -> v.expiresAt <= now);
+
+        int excess = verifiedTokens.size() - verifiedCacheMaxSize + Math.max(1, verifiedCacheMaxSize / 8);
+        Iterator<String> it = verifiedTokens.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private String digest(String token) {
+        MessageDigest md;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            md = (MessageDigest) digestPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
         }
     }
-}
\ No newline at end of file
+}
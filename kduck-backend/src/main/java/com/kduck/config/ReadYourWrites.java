@@ -0,0 +1,85 @@
+package com.kduck.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 방금 쓴 사용자를 읽을 때는 복제본 대신 primary 에서 (복제 지연으로 옛 값을 보거나 캐시에 다시 채우지 않도록)
+// 쓰기 후 datasource.replicas.max-lag-ms 동안 해당 사용자의 id / 이메일 / 사용자명 조회를 primary 로
+// 이 시간보다 지연이 큰 복제본은 ReplicaRoutingDataSource 가 제외하므로 그 이후 복제본 조회는 최신 값
+@Component
+public class ReadYourWrites {
+
+    private final boolean enabled;
+    private final long windowMillis;
+
+    // 키 -> 이 시각까지 primary
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(@Value("${datasource.replicas.urls:}") List<String> replicaUrls,
+                          @Value("${datasource.replicas.max-lag-ms:5000}") long windowMillis) {
+        this.enabled = replicaUrls.stream().anyMatch(url -> !url.isBlank());
+        this.windowMillis = windowMillis;
+    }
+
+    public static String idKey(Long id) {
+        return id == null ? null : "id:" + id;
+    }
+
+    public static String emailKey(String email) {
+        return email == null ? null : "email:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    public static String usernameKey(String username) {
+        return username == null ? null : "username:" + username;
+    }
+
+    public void record(String... keys) {
+        if (!enabled) {
+            return;
+        }
+        long until = System.currentTimeMillis() + windowMillis;
+        for (String key : keys) {
+            if (key != null) {
+                recentWrites.put(key, until);
+            }
+        }
+    }
+
+    public <T> T read(Supplier<T> query, String... keys) {
+        return read(query, Arrays.asList(keys));
+    }
+
+    public <T> T read(Supplier<T> query, Collection<String> keys) {
+        if (enabled) {
+            for (String key : keys) {
+                if (isRecent(key)) {
+                    return ReplicaRoutingDataSource.onPrimary(query);
+                }
+            }
+        }
+        return query.get();
+    }
+
+    private boolean isRecent(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long until = recentWrites.get(key);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.max-lag-ms:5000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        recentWrites.values().removeIf(until -> until <= now);
+    }
+}
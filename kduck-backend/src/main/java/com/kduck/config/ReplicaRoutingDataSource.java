@@ -0,0 +1,169 @@
+package com.kduck.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기, 트랜잭션 밖)는 primary 로
+// 트랜잭션의 readOnly 여부는 첫 쿼리 시점에야 확정되므로 LazyConnectionDataSourceProxy 로 감싸서 사용 (DataSourceConfig)
+// 복제본은 주기적으로 연결/지연을 확인해서 느리거나 죽은 복제본은 빼고, 다 빠지면 primary 로
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // 복제 지연 (ms) - WAL 을 다 반영했으면 0 (쓰기가 없어서 마지막 재생 시각이 오래된 경우 포함)
+    private static final String REPLICATION_LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    // 방금 쓴 데이터를 읽는 경우 등 - 읽기 전용 트랜잭션이어도 primary 로
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaDataSources,
+                                    long maxLagMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagMillis = maxLagMillis;
+        this.replicas = new ArrayList<>();
+        for (HikariDataSource dataSource : replicaDataSources) {
+            Replica replica = new Replica(dataSource);
+            replicas.add(replica);
+            Gauge.builder("kduck.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", dataSource.getPoolName()).register(meterRegistry);
+            Gauge.builder("kduck.datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("pool", dataSource.getPoolName()).baseUnit("milliseconds").register(meterRegistry);
+        }
+
+        this.primaryRoutes = Counter.builder("kduck.datasource.route").tag("target", "primary").register(meterRegistry);
+        this.replicaRoutes = Counter.builder("kduck.datasource.route").tag("target", "replica").register(meterRegistry);
+        this.fallbackRoutes = Counter.builder("kduck.datasource.route").tag("target", "fallback").register(meterRegistry);
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            primaryRoutes.increment();
+            return primary.getConnection();
+        }
+
+        Replica replica = pickHealthy();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                // 다음 상태 확인까지 이 복제본은 제외
+                markDown(replica, e.getMessage());
+            }
+        }
+        fallbackRoutes.increment();
+        return primary.getConnection();
+    }
+
+    // 계정을 지정한 커넥션은 복제본 라우팅 없이 primary 에 그대로 (Hikari 는 SQLFeatureNotSupportedException)
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // 라운드 로빈 - 건강한 복제본이 없으면 null
+    private Replica pickHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replicas.health-check-interval-ms:2000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                rs.next();
+                replica.lagMillis = (long) rs.getDouble(1);
+                if (replica.lagMillis > maxLagMillis) {
+                    markDown(replica, "복제 지연 " + replica.lagMillis + "ms");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("복제본 사용 재개: {}", replica.dataSource.getPoolName());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 제외 ({}): {}", replica.dataSource.getPoolName(), reason);
+        }
+    }
+
+    // 복제본 풀 (기동 워밍업용) - 상태와 관계없이 전부
+    public List<HikariDataSource> getReplicaDataSources() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        // 첫 상태 확인 전에는 사용하지 않음
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kduck.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (가용성 필터 재구성 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,163 @@
+package com.kduck.config;
+
+import com.kduck.mapper.UserMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 기동 워밍업 (startup.warmup.enabled, fast-startup 프로필에서 사용)
+// ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로, 트래픽을 받기 전에
+// 커넥션 풀(primary + 복제본)을 채우고 커넥션마다 자주 쓰는 쿼리를 서버 측 prepared statement 가 될 만큼 실행, JWT 서명/검증 경로를 데움
+// 전체 시간은 timeout-ms 로 제한 (DB 가 느려 getConnection 이 막혀도 기다리지 않고 중단), 실패해도 기동은 계속 (워밍업 없이 트래픽을 받는 것과 같음)
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final HikariDataSource primaryDataSource;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final int connections;
+    private final int queryIterations;
+    private final int jwtIterations;
+    private final long timeoutMillis;
+
+    public StartupWarmup(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource,
+                         JwtUtil jwtUtil,
+                         @Value("${startup.warmup.enabled:false}") boolean enabled,
+                         @Value("${startup.warmup.connections:10}") int connections,
+                         @Value("${startup.warmup.query-iterations:5}") int queryIterations,
+                         @Value("${startup.warmup.jwt-iterations:1000}") int jwtIterations,
+                         @Value("${startup.warmup.timeout-ms:15000}") long timeoutMillis) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.connections = connections;
+        this.queryIterations = queryIterations;
+        this.jwtIterations = jwtIterations;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + timeoutMillis;
+
+        jwtUtil.warmUp(jwtIterations);
+        long jwtDone = System.currentTimeMillis();
+
+        int warmed = warmPools(deadline);
+        long done = System.currentTimeMillis();
+
+        log.info("기동 워밍업 완료 ({}ms) - JWT {}회 {}ms, 커넥션 {}개 {}ms",
+                done - startedAt, jwtIterations, jwtDone - startedAt, warmed, done - jwtDone);
+    }
+
+    // 풀마다 별도 스레드에서 동시에 - 남은 시간이 지나면 끝나지 않은 작업은 인터럽트하고 기동 계속
+    // (Hikari getConnection 은 인터럽트되면 SQLException 으로 빠져나오고, 빌린 커넥션은 각 작업의 finally 에서 반환)
+    private int warmPools(long deadline) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(primaryDataSource);
+        pools.addAll(replicaRoutingDataSource.getReplicaDataSources());
+
+        List<Callable<Integer>> tasks = new ArrayList<>(pools.size());
+        for (HikariDataSource pool : pools) {
+            tasks.add(() -> warmConnections(pool, deadline));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(pools.size(),
+                Thread.ofPlatform().name("startup-warmup-", 0).daemon().factory());
+        int warmed = 0;
+        try {
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            List<Future<Integer>> results = executor.invokeAll(tasks, remaining, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < results.size(); i++) {
+                Future<Integer> result = results.get(i);
+                if (result.isCancelled()) {
+                    log.warn("기동 워밍업 시간 초과 - {} 풀은 끝까지 데우지 못함", pools.get(i).getPoolName());
+                    continue;
+                }
+                try {
+                    warmed += result.get();
+                } catch (ExecutionException e) {
+                    log.warn("기동 워밍업 실패 ({}) - 워밍업 없이 계속: {}", pools.get(i).getPoolName(),
+                            e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return warmed;
+    }
+
+    // 풀 최대 크기까지만 동시에 빌려서 새 물리 커넥션을 열게 하고, 각 커넥션에서 조회 쿼리를 반복 실행
+    // (PgJDBC 는 같은 커넥션에서 prepareThreshold(기본 5)번 실행된 쿼리부터 서버 측 prepared statement 로 전환)
+    private int warmConnections(HikariDataSource pool, long deadline) {
+        int target = Math.min(connections, pool.getMaximumPoolSize());
+        List<Connection> borrowed = new ArrayList<>(target);
+        try {
+            while (borrowed.size() < target && System.currentTimeMillis() < deadline
+                    && !Thread.currentThread().isInterrupted()) {
+                borrowed.add(pool.getConnection());
+            }
+            for (Connection connection : borrowed) {
+                if (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted()) {
+                    log.warn("기동 워밍업 시간 초과 ({}) - 남은 커넥션은 건너뜀", pool.getPoolName());
+                    break;
+                }
+                warmQueries(connection);
+            }
+        } catch (SQLException | DataAccessException e) {
+            log.warn("기동 워밍업 중 DB 오류 ({}) - 워밍업 없이 계속: {}", pool.getPoolName(), e.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 풀로 반환 실패는 풀이 정리
+                }
+            }
+        }
+        return borrowed.size();
+    }
+
+    // 빈이 아닌 매퍼 인스턴스로 실행 - 이 커넥션에 고정, 쿼리 메트릭에는 남기지 않음
+    private void warmQueries(Connection connection) {
+        UserMapper mapper = new UserMapper(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+        for (int i = 0; i < queryIterations; i++) {
+            mapper.findById(-1L);
+            mapper.findByEmail("");
+            mapper.findByUsername("");
+            mapper.findCredentialsByEmail("");
+            mapper.existsByEmail("");
+            mapper.existsByUsername("");
+            mapper.findVersionById(-1L);
+            mapper.findPage(null, null, 1);
+            mapper.findPageVersions(null, null, 1);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.kduck.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 폐기된 토큰 목록 (메모리) - 검증 때마다 해시 조회 두 번 (jti, 사용자별 기준 시각)
+// 항목은 가리키는 토큰이 만료되면 필요 없으므로 만료 시각 기준 타이밍 휠로 정리 (전체 스캔 없음)
+// 영속화와 인스턴스 간 동기화는 TokenRevocationService 담당
+@Component
+public class TokenDenylist {
+
+    private final long tickMillis;
+
+    // jti -> 토큰 만료 시각
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // 사용자 id -> 이 시각(초) 이전에 발급된 토큰은 무효
+    private final Map<Long, Cutoff> userCutoffs = new ConcurrentHashMap<>();
+
+    // 슬롯 하나 = tickMillis, 토큰 수명 전체를 덮도록 한 바퀴 크기를 잡음
+    private final Queue<Expiring>[] wheel;
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    public TokenDenylist(MeterRegistry meterRegistry,
+                         @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis,
+                         @Value("${jwt.denylist.tick-ms:60000}") long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new Queue[(int) (tokenLifetimeMillis / tickMillis) + 2];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.nextTick = System.currentTimeMillis() / tickMillis;
+
+        Gauge.builder("kduck.jwt.denylist.size", this, TokenDenylist::size).register(meterRegistry);
+    }
+
+    // 토큰 발급 시각(iat) 은 초 단위라 기준 시각과 같은 초에 발급된 토큰도 무효로 봄
+    public boolean isRevoked(String jti, Long userId, long issuedAtSeconds) {
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        if (userId != null) {
+            Cutoff cutoff = userCutoffs.get(userId);
+            return cutoff != null && issuedAtSeconds <= cutoff.issuedBeforeSeconds;
+        }
+        return false;
+    }
+
+    public void revokeToken(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (revokedTokens.putIfAbsent(jti, expiresAtMillis) == null) {
+            schedule(new Expiring(jti, null, expiresAtMillis));
+        }
+    }
+
+    // 같은 사용자에 대해 여러 번 폐기하면 가장 늦은 기준 시각을 유지
+    public void revokeUser(Long userId, long issuedBeforeSeconds, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        Cutoff merged = userCutoffs.merge(userId, new Cutoff(issuedBeforeSeconds, expiresAtMillis),
+                (a, b) -> new Cutoff(Math.max(a.issuedBeforeSeconds, b.issuedBeforeSeconds),
+                        Math.max(a.expiresAtMillis, b.expiresAtMillis)));
+        schedule(new Expiring(null, userId, merged.expiresAtMillis));
+    }
+
+    public int size() {
+        return revokedTokens.size() + userCutoffs.size();
+    }
+
+    // 지나간 슬롯을 비움 - 한 바퀴 넘게 밀렸어도 슬롯마다 한 번만 확인
+    @Scheduled(fixedDelayString = "${jwt.denylist.tick-ms:60000}")
+    public synchronized void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        long from = Math.max(nextTick, currentTick - wheel.length + 1);
+
+        List<Expiring> notYet = new ArrayList<>();
+        for (long tick = from; tick <= currentTick; tick++) {
+            Queue<Expiring> slot = wheel[(int) (tick % wheel.length)];
+            Expiring entry;
+            while ((entry = slot.poll()) != null) {
+                if (entry.expiresAtMillis > now) {
+                    notYet.add(entry);
+                } else if (entry.jti != null) {
+                    revokedTokens.remove(entry.jti, entry.expiresAtMillis);
+                } else {
+                    userCutoffs.computeIfPresent(entry.userId,
+                            (id, cutoff) -> cutoff.expiresAtMillis <= now ? null : cutoff);
+                }
+            }
+        }
+        // 같은 슬롯이지만 다음 바퀴에 만료되는 항목은 되돌려 놓음
+        notYet.forEach(this::schedule);
+        nextTick = currentTick;
+    }
+
+    private void schedule(Expiring entry) {
+        wheel[(int) ((entry.expiresAtMillis / tickMillis) % wheel.length)].add(entry);
+    }
+
+    private static final class Cutoff {
+        private final long issuedBeforeSeconds;
+        private final long expiresAtMillis;
+
+        private Cutoff(long issuedBeforeSeconds, long expiresAtMillis) {
+            this.issuedBeforeSeconds = issuedBeforeSeconds;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private static final class Expiring {
+        private final String jti;
+        private final Long userId;
+        private final long expiresAtMillis;
+
+        private Expiring(String jti, Long userId, long expiresAtMillis) {
+            this.jti = jti;
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -5,17 +5,42 @@ import lombok.Setter;
 import com.kduck.dto.AuthDto;
 import com.kduck.dto.UserDto;
 import com.kduck.common.ApiResponse;
+import com.kduck.common.DomainException;
+import com.kduck.service.GuestAccountService;
+import com.kduck.service.LoginThrottle;
+import com.kduck.service.PasswordHasher;
+import com.kduck.service.TokenRevocationService;
+import com.kduck.service.UserActivityRecorder;
 import com.kduck.service.UserService;
 import com.kduck.config.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
+    // 로그인 실패 로그 샘플링 (N 건 중 1 건)
+    @Value("${logging.sample.login-failure:100}")
+    private int loginFailureSampleRate;
+
+    private final AtomicLong loginFailures = new AtomicLong();
+
     @Autowired
     private UserService userService;
 
@@ -23,53 +48,109 @@ public class AuthController {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserActivityRecorder activityRecorder;
 
-    // 회원가입 (기존 UserController 로직 활용)
+    @Autowired
+    private GuestAccountService guestAccountService;
+
+    // 회원가입 (기존 UserController 로직 활용) - 필수값/형식 오류(400), 중복(409), 해시 풀 포화(503)는 GlobalExceptionHandler 에서
     @PostMapping("/register")
-    public ApiResponse<UserDto.Response> register(@RequestBody UserDto.Request request) {
-        try {
-            UserDto.Response user = userService.createUser(request);
-            return ApiResponse.success(user);
-        } catch (RuntimeException e) {
-            return ApiResponse.error(e.getMessage());
-        }
+    public ResponseEntity<ApiResponse<UserDto.Response>> register(@Valid @RequestBody UserDto.Request request) {
+        UserDto.Response user = userService.createUser(request);
+        return ResponseEntity.ok(ApiResponse.success(user));
     }
 
-    // 로그인
+    // 로그인 - 이메일/비밀번호 누락(400)은 GlobalExceptionHandler 에서
     @PostMapping("/login")
-    public ApiResponse<AuthDto.LoginResponse> login(@RequestBody AuthDto.LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthDto.LoginResponse>> login(@Valid @RequestBody AuthDto.LoginRequest request,
+                                                                    HttpServletRequest httpRequest) {
+        // 시도 제한 - DB 조회와 비밀번호 검증 전에 거절
+        // (server.forward-headers-strategy=native - 프록시 뒤에서도 getRemoteAddr 가 실제 클라이언트 IP)
+        long retryAfter = loginThrottle.tryAcquire(request.getEmail(), httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            throw new DomainException.TooManyRequests("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+
         try {
-            // 이메일로 사용자 조회
-            UserDto.Response user = userService.getUserByEmail(request.getEmail());
+            // 이메일로 로그인 정보(id, 비밀번호 해시)만 조회
+            UserDto.Credentials credentials = userService.getCredentialsByEmail(request.getEmail()).orElse(null);
 
-            System.out.println(user);
-            if (user == null) {
-                System.out.println("해당 이메일 유저 없음");
-                return ApiResponse.error("존재하지 않는 사용자입니다.");
+            if (credentials == null) {
+                logLoginFailure("unknown email", request.getEmail());
+                return ResponseEntity.ok(ApiResponse.error("존재하지 않는 사용자입니다."));
             }
 
-            // 비밀번호 검증
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                System.out.println(request.getPassword());
-                System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-                System.out.println(user.getPassword()); // 얘가 문제네
-                System.out.println("검증 시도");
-                return ApiResponse.error("비밀번호가 일치하지 않습니다.");
+            // 비밀번호 검증 (BCrypt 전용 풀에서 실행)
+            if (!passwordHasher.matches(request.getPassword(), credentials.getPassword())) {
+                logLoginFailure("password mismatch", credentials.getEmail());
+                return ResponseEntity.ok(ApiResponse.error("비밀번호가 일치하지 않습니다."));
+            }
+
+            // 예전 cost 해시면 백그라운드에서 재해시
+            userService.rehashPasswordIfNeeded(credentials.getId(), request.getPassword(), credentials.getPassword());
+
+            // 응답용 프로필 (캐시) - 그 사이 탈퇴했으면 없는 사용자와 같게
+            UserDto.Response user = userService.findUserById(credentials.getId()).orElse(null);
+            if (user == null) {
+                return ResponseEntity.ok(ApiResponse.error("존재하지 않는 사용자입니다."));
             }
 
             // JWT 토큰 생성
             String token = jwtUtil.generateToken(user.getEmail(), user.getId());
 
-            // 응답에서 비밀번호 제거
-            user.setPassword(null);
+            // 마지막 로그인 시각 (모아서 주기적으로 반영)
+            activityRecorder.recordLogin(user.getId());
 
             AuthDto.LoginResponse response = new AuthDto.LoginResponse(token, user);
-            return ApiResponse.success(response);
+            return ResponseEntity.ok(ApiResponse.success(response));
 
-        } catch (Exception e) {
-            return ApiResponse.error("로그인 중 오류가 발생했습니다.");
+        } catch (DataAccessException | TransactionException e) {
+            return ResponseEntity.ok(ApiResponse.error("로그인 중 오류가 발생했습니다."));
+        }
+    }
+
+    // 게스트 계정 - 가입 없이 바로 토큰 발급 (로그인과 같은 IP 시도 제한)
+    @PostMapping("/guest")
+    public ResponseEntity<ApiResponse<AuthDto.LoginResponse>> createGuest(HttpServletRequest httpRequest) {
+        long retryAfter = loginThrottle.tryAcquire(null, httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            throw new DomainException.TooManyRequests("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+
+        UserDto.Response guest = guestAccountService.createGuest();
+        String token = jwtUtil.generateToken(null, guest.getId());
+        return ResponseEntity.ok(ApiResponse.success(new AuthDto.LoginResponse(token, guest)));
+    }
+
+    // 게스트 -> 일반 계정 전환 (같은 id 유지) - 게스트 토큰은 폐기하고 이메일이 들어간 새 토큰 발급
+    // 필수값 누락(400), 게스트가 아니거나 중복(409), 포화(503)는 GlobalExceptionHandler 에서
+    @PostMapping("/guest/upgrade")
+    public ResponseEntity<ApiResponse<AuthDto.LoginResponse>> upgradeGuest(@RequestHeader("Authorization") String authHeader,
+                                                                           @RequestBody UserDto.Request request) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.ok(ApiResponse.error("유효하지 않은 토큰입니다."));
+        }
+        Optional<Claims> claims = jwtUtil.parseClaims(authHeader.substring(7));
+        if (claims.isEmpty()) {
+            return ResponseEntity.ok(ApiResponse.error("만료되거나 유효하지 않은 토큰입니다."));
         }
+
+        Long userId = claims.get().get("userId", Long.class);
+        guestAccountService.ensurePersisted(userId);
+        UserDto.Response user = userService.upgradeGuest(userId, request);
+        // 게스트 토큰은 전환 후 쓸 수 없도록 폐기 (새 토큰만 유효)
+        tokenRevocationService.revokeToken(claims.get());
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        return ResponseEntity.ok(ApiResponse.success(new AuthDto.LoginResponse(token, user)));
     }
 
     // 토큰 검증
@@ -82,13 +163,22 @@ public class AuthController {
 
             String token = authHeader.substring(7);
 
-            if (!jwtUtil.validateToken(token)) {
+            // 서명 검증과 claims 추출을 한 번에
+            Optional<Claims> claims = jwtUtil.parseClaims(token);
+            if (claims.isEmpty()) {
                 return ApiResponse.error("만료되거나 유효하지 않은 토큰입니다.");
             }
 
-            String email = jwtUtil.getEmailFromToken(token);
-            UserDto.Response user = userService.getUserByEmail(email);
-            user.setPassword(null); // 비밀번호 제거
+            // id 로 조회 (게스트는 이메일이 없고, 아직 저장 전일 수 있음) - 탈퇴한 사용자의 토큰이면 empty
+            Long userId = claims.get().get("userId", Long.class);
+            Optional<UserDto.Response> found = userId != null
+                    ? guestAccountService.findPending(userId).or(() -> userService.findUserById(userId))
+                    : userService.findUserByEmail(claims.get().getSubject());
+            if (found.isEmpty()) {
+                return ApiResponse.error("사용자를 찾을 수 없습니다.");
+            }
+            UserDto.Response user = found.get();
+            activityRecorder.recordSeen(user.getId());
 
             return ApiResponse.success(user);
 
@@ -96,4 +186,50 @@ public class AuthController {
             return ApiResponse.error("토큰 검증 중 오류가 발생했습니다.");
         }
     }
+
+    // 로그아웃 - 이 토큰만 폐기
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(@RequestHeader("Authorization") String authHeader) {
+        return revoke(authHeader, false);
+    }
+
+    // 모든 기기에서 로그아웃 - 지금까지 발급된 이 사용자의 토큰을 모두 폐기
+    @PostMapping("/logout-all")
+    public ApiResponse<Void> logoutAll(@RequestHeader("Authorization") String authHeader) {
+        return revoke(authHeader, true);
+    }
+
+    private ApiResponse<Void> revoke(String authHeader, boolean allSessions) {
+        try {
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return ApiResponse.error("유효하지 않은 토큰입니다.");
+            }
+
+            Optional<Claims> claims = jwtUtil.parseClaims(authHeader.substring(7));
+            if (claims.isEmpty()) {
+                return ApiResponse.error("만료되거나 유효하지 않은 토큰입니다.");
+            }
+
+            Long userId = claims.get().get("userId", Long.class);
+            if (allSessions && userId != null) {
+                tokenRevocationService.revokeAllForUser(userId);
+            } else {
+                tokenRevocationService.revokeToken(claims.get());
+            }
+            return ApiResponse.success(null);
+
+        } catch (Exception e) {
+            return ApiResponse.error("로그아웃 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 공격 중에는 실패가 초당 수천 건이라 전부 찍지 않고 샘플링
+    private void logLoginFailure(String reason, String email) {
+        long count = loginFailures.incrementAndGet();
+        if (loginFailureSampleRate <= 1 || count % loginFailureSampleRate == 1) {
+            log.info("로그인 실패 ({}): {} (누적 {}건)", reason, email, count);
+        } else {
+            log.debug("로그인 실패 ({}): {}", reason, email);
+        }
+    }
 }
\ No newline at end of file
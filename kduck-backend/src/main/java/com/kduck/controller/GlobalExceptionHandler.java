@@ -0,0 +1,58 @@
+package com.kduck.controller;
+
+import com.kduck.common.ApiResponse;
+import com.kduck.common.DomainException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 서비스에서 던진 DomainException 을 한 곳에서 응답으로 변환 - 컨트롤러마다 catch 하지 않음
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDomainException(DomainException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getStatus());
+        if (e.getRetryAfterSeconds() > 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+        return builder.body(ApiResponse.error(e.getMessage()));
+    }
+
+    // @Valid 요청 본문 검증 실패 - 필드별 메시지를 모아서 400
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidBody(MethodArgumentNotValidException e) {
+        StringBuilder sb = new StringBuilder();
+        for (FieldError error : e.getBindingResult().getFieldErrors()) {
+            sb.append(error.getField())
+                    .append(": ")
+                    .append(error.getDefaultMessage())
+                    .append("; ");
+        }
+        return ResponseEntity.badRequest().body(ApiResponse.error(sb.toString()));
+    }
+
+    // 검증을 빠져나온 잘못된 입력 (BCrypt 에 null 비밀번호 등) - 500 이 아니라 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+    }
+
+    // 서비스에서 Conflict 로 바꾸지 않은 유니크 제약 위반 - 400 이 아니라 409
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDuplicateKey(DuplicateKeyException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error("이미 존재하는 값입니다."));
+    }
+
+    // NOT NULL / CHECK 제약 위반 (ck_users_registered_fields 등) - 입력이 스키마 조건을 만족하지 않음
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("입력값이 올바르지 않습니다."));
+    }
+}
@@ -1,27 +1,60 @@
 package com.kduck.controller;
 
+import com.kduck.common.DomainException;
+import com.kduck.common.VersionStamp;
 import com.kduck.dto.UserDto;
+import com.kduck.service.ProfileImageService;
+import com.kduck.service.UserExportService;
+import com.kduck.service.UserImportService;
 import com.kduck.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
 @CrossOrigin(origins = "*")
 public class UserController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final ProfileImageService profileImageService;
+    private final long importTimeoutMillis;
+    private final long exportTimeoutMillis;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService,
+                          UserExportService userExportService, ProfileImageService profileImageService,
+                          @Value("${user.import.request-timeout-ms:1800000}") long importTimeoutMillis,
+                          @Value("${user.export.request-timeout-ms:1800000}") long exportTimeoutMillis) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.userExportService = userExportService;
+        this.profileImageService = profileImageService;
+        this.importTimeoutMillis = importTimeoutMillis;
+        this.exportTimeoutMillis = exportTimeoutMillis;
     }
 
 //    @PostMapping("/register")
@@ -62,20 +95,113 @@ public class UserController {
 //        }
 //    }
 
+    // 다건 조회 - /api/users/batch?ids=1,2,3&usernames=a,b (합쳐서 최대 100건)
+    @GetMapping("/batch")
+    public ResponseEntity<?> getUsersBatch(@RequestParam(required = false) List<Long> ids,
+                                           @RequestParam(required = false) List<String> usernames) {
+        UserDto.BatchResponse response = userService.getUsersBatch(ids, usernames);
+        return ResponseEntity.ok(response);
+    }
+
+    // 멘션/자동완성 검색 - /api/users/search?q=김철&limit=10 (사용자명, 닉네임 접두어 / 한글 초성)
+    @GetMapping("/search")
+    public ResponseEntity<?> searchUsers(@RequestParam String q,
+                                         @RequestParam(defaultValue = "" + UserService.DEFAULT_SEARCH_SIZE) int limit) {
+        return ResponseEntity.ok(userService.searchUsers(q, limit));
+    }
+
+    // 가입 폼 중복 확인 - /api/users/availability?email=..&username=.. (최종 판단은 가입 시 유니크 제약)
+    @GetMapping("/availability")
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String email,
+                                               @RequestParam(required = false) String username) {
+        if ((email == null || email.isBlank()) && (username == null || username.isBlank())) {
+            return ResponseEntity.badRequest().body("email 또는 username 이 필요합니다.");
+        }
+        return ResponseEntity.ok(userService.checkAvailability(email, username));
+    }
+
+    // If-None-Match / If-Modified-Since 가 오면 버전만 확인해서 304 (행 조회, JSON 직렬화 없음)
     @GetMapping("/{id}")
-    public ResponseEntity<UserDto.Response> getUser(@PathVariable Long id) {
-        try {
-            UserDto.Response response = userService.getUserById(id);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+    public ResponseEntity<UserDto.Response> getUser(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
+        if (isConditional(headers)) {
+            Optional<VersionStamp> version = userService.getUserVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (version.get().isNotModified(headers.getIfNoneMatch(), headers.getIfModifiedSince())) {
+                return notModified(version.get());
+            }
         }
+        return userService.findUserById(id)
+                .map(response -> withVersion(ResponseEntity.ok(), VersionStamp.ofUser(response)).body(response))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDto.Response>> getAllUsers() {
-        List<UserDto.Response> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int size,
+                                      @RequestHeader HttpHeaders headers) {
+        if (isConditional(headers)) {
+            VersionStamp version = userService.getUsersVersion(cursor, size);
+            if (version.isNotModified(headers.getIfNoneMatch(), headers.getIfModifiedSince())) {
+                return notModified(version);
+            }
+        }
+        UserDto.PageResponse page = userService.getUsers(cursor, size);
+        VersionStamp version = VersionStamp.ofPage(page.getUsers(), page.getNextCursor() != null);
+        return withVersion(ResponseEntity.ok(), version).body(page);
+    }
+
+    // 대량 가져오기 - CSV(헤더 필수) 또는 JSON 배열/NDJSON 을 스트리밍으로 처리
+    // 응답은 중복/실패 행 보고 + 마지막 줄 요약 (NDJSON)
+    // 입력 크기에 따라 오래 걸리므로 이 요청만 user.import.request-timeout-ms (전역 spring.mvc.async.request-timeout 대신)
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public WebAsyncTask<Void> importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        InputStream in = request.getInputStream();
+        boolean csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"));
+        UserImportService.Format format = csv
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.JSON;
+
+        response.setContentType(NDJSON.toString());
+        return new WebAsyncTask<>(importTimeoutMillis, () -> {
+            userImportService.importUsers(in, format, response.getOutputStream());
+            return null;
+        });
+    }
+
+    // 전체 내보내기 - /api/users/export?format=ndjson|csv (서버 커서에서 바로 스트리밍)
+    // 전체 행 수에 비례해서 오래 걸리므로 가져오기처럼 user.export.request-timeout-ms (전역 타임아웃에 잘려 파일이 중간에 끊기지 않도록)
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                                          HttpServletResponse response) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new DomainException.InvalidRequest("지원하지 않는 형식입니다: " + format);
+        }
+        UserExportService.Format exportFormat = csv ? UserExportService.Format.CSV : UserExportService.Format.NDJSON;
+
+        response.setContentType((csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : NDJSON).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(csv ? "users.csv" : "users.ndjson").build().toString());
+        return new WebAsyncTask<>(exportTimeoutMillis, () -> {
+            userExportService.exportUsers(exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+
+    // 캐시 크기 조정용 hit/miss/eviction 카운터
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Long>> getCacheStats() {
+        return ResponseEntity.ok(userService.getCacheStats());
+    }
+
+    // 프로필 이미지 업로드 - 요청 본문이 이미지 그대로 (multipart 아님), 썸네일이 만들어지면 profile_image_url 이 바뀜
+    // 이미지가 아니거나 너무 큼(400), 없는 사용자(404), 풀 포화(503)는 GlobalExceptionHandler 에서
+    @PostMapping(value = "/{id}/profile-image", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<?> uploadProfileImage(@PathVariable Long id, HttpServletRequest request) throws IOException {
+        profileImageService.upload(id, request.getInputStream());
+        return ResponseEntity.accepted().build();
     }
 
     @PutMapping("/{id}")
@@ -91,21 +217,31 @@ public class UserController {
             return ResponseEntity.badRequest().body(sb.toString());
         }
 
-        try {
-            UserDto.Response response = userService.updateUser(id, request);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body("업데이트 실패: " + e.getMessage());
-        }
+        // 없는 사용자(404), 중복(409)은 GlobalExceptionHandler 에서
+        UserDto.Response response = userService.updateUser(id, request);
+        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        try {
-            userService.deleteUser(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return !headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() >= 0;
+    }
+
+    private static <T> ResponseEntity<T> notModified(VersionStamp version) {
+        return withVersion(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+    }
+
+    // 매번 재검증하도록 no-cache (저장은 하되 사용 전에 조건부 요청)
+    private static ResponseEntity.BodyBuilder withVersion(ResponseEntity.BodyBuilder builder, VersionStamp version) {
+        builder.eTag(version.getEtag()).cacheControl(CacheControl.noCache());
+        if (version.getLastModified() >= 0) {
+            builder.lastModified(version.getLastModified());
         }
+        return builder;
     }
 }
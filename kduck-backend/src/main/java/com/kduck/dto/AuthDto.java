@@ -1,6 +1,7 @@
 // Login - Auth dto
 package com.kduck.dto;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,7 +10,10 @@ public class AuthDto {
     @Getter
     @Setter
     public static class LoginRequest {
+        @NotBlank(message = "이메일은 필수입니다")
         private String email;
+
+        @NotBlank(message = "비밀번호는 필수입니다")
         private String password;
     }
 
@@ -4,6 +4,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class UserDto {
 
@@ -46,7 +47,6 @@ public class UserDto {
         private boolean isAnonymous;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
-        private String password;
 
         public Response() {}
 
@@ -65,11 +65,6 @@ public class UserDto {
         public String getProfileImageUrl() { return profileImageUrl; }
         public void setProfileImageUrl(String profileImageUrl) { this.profileImageUrl = profileImageUrl; }
 
-        public String getPassword() {return password;}
-        public void setPassword(String password) {
-            this.password = password;
-        }
-
         public boolean isAnonymous() { return isAnonymous; }
         public void setAnonymous(boolean anonymous) { isAnonymous = anonymous; }
 
@@ -80,6 +75,185 @@ public class UserDto {
         public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     }
 
+    // 로그인 검증 전용 - 프로필 조회에는 비밀번호 해시를 싣지 않음
+    public static class Credentials {
+        private final Long id;
+        private final String email;
+        private final String password;
+
+        public Credentials(Long id, String email, String password) {
+            this.id = id;
+            this.email = email;
+            this.password = password;
+        }
+
+        public Long getId() { return id; }
+
+        public String getEmail() { return email; }
+
+        public String getPassword() { return password; }
+    }
+
+    public static class PageResponse {
+        private List<Response> users;
+        private String nextCursor;
+
+        public PageResponse() {}
+
+        public PageResponse(List<Response> users, String nextCursor) {
+            this.users = users;
+            this.nextCursor = nextCursor;
+        }
+
+        public List<Response> getUsers() { return users; }
+        public void setUsers(List<Response> users) { this.users = users; }
+
+        // 마지막 페이지면 null
+        public String getNextCursor() { return nextCursor; }
+        public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    }
+
+    // 다건 조회 결과 - users 는 요청 순서(중복 제거), 없는 키는 notFound* 로 표시
+    public static class BatchResponse {
+        private List<Response> users;
+        private List<Long> notFoundIds;
+        private List<String> notFoundUsernames;
+
+        public BatchResponse() {}
+
+        public BatchResponse(List<Response> users, List<Long> notFoundIds, List<String> notFoundUsernames) {
+            this.users = users;
+            this.notFoundIds = notFoundIds;
+            this.notFoundUsernames = notFoundUsernames;
+        }
+
+        public List<Response> getUsers() { return users; }
+        public void setUsers(List<Response> users) { this.users = users; }
+
+        public List<Long> getNotFoundIds() { return notFoundIds; }
+        public void setNotFoundIds(List<Long> notFoundIds) { this.notFoundIds = notFoundIds; }
+
+        public List<String> getNotFoundUsernames() { return notFoundUsernames; }
+        public void setNotFoundUsernames(List<String> notFoundUsernames) { this.notFoundUsernames = notFoundUsernames; }
+    }
+
+    // 검색/멘션 자동완성 결과 - 목록 표시용 최소 필드
+    public static class SearchResult {
+        private Long id;
+        private String username;
+        private String nickname;
+        private String profileImageUrl;
+
+        public SearchResult() {}
+
+        public SearchResult(Long id, String username, String nickname, String profileImageUrl) {
+            this.id = id;
+            this.username = username;
+            this.nickname = nickname;
+            this.profileImageUrl = profileImageUrl;
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getNickname() { return nickname; }
+        public void setNickname(String nickname) { this.nickname = nickname; }
+
+        public String getProfileImageUrl() { return profileImageUrl; }
+        public void setProfileImageUrl(String profileImageUrl) { this.profileImageUrl = profileImageUrl; }
+    }
+
+    // 가입 폼 실시간 중복 확인 - 요청하지 않은 항목은 null
+    public static class AvailabilityResponse {
+        private Boolean emailAvailable;
+        private Boolean usernameAvailable;
+
+        public AvailabilityResponse() {}
+
+        public AvailabilityResponse(Boolean emailAvailable, Boolean usernameAvailable) {
+            this.emailAvailable = emailAvailable;
+            this.usernameAvailable = usernameAvailable;
+        }
+
+        public Boolean getEmailAvailable() { return emailAvailable; }
+        public void setEmailAvailable(Boolean emailAvailable) { this.emailAvailable = emailAvailable; }
+
+        public Boolean getUsernameAvailable() { return usernameAvailable; }
+        public void setUsernameAvailable(Boolean usernameAvailable) { this.usernameAvailable = usernameAvailable; }
+    }
+
+    // 대량 가져오기 결과 - 실패/중복 행만 한 줄씩 보고
+    public static class ImportRowResult {
+        private String status; // duplicate, invalid, failed
+        private long row;
+        private String username;
+        private String email;
+        private String message;
+
+        public ImportRowResult() {}
+
+        public ImportRowResult(String status, long row, Request request, String message) {
+            this.status = status;
+            this.row = row;
+            if (request != null) {
+                this.username = request.getUsername();
+                this.email = request.getEmail();
+            }
+            this.message = message;
+        }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public long getRow() { return row; }
+        public void setRow(long row) { this.row = row; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
+    public static class ImportSummary {
+        private final String status = "summary";
+        private long total;
+        private long created;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+        private boolean aborted;
+
+        public ImportSummary() {}
+
+        public String getStatus() { return status; }
+
+        public long getTotal() { return total; }
+        public void setTotal(long total) { this.total = total; }
+
+        public long getCreated() { return created; }
+        public void setCreated(long created) { this.created = created; }
+
+        public long getDuplicates() { return duplicates; }
+        public void setDuplicates(long duplicates) { this.duplicates = duplicates; }
+
+        public long getInvalid() { return invalid; }
+        public void setInvalid(long invalid) { this.invalid = invalid; }
+
+        public long getFailed() { return failed; }
+        public void setFailed(long failed) { this.failed = failed; }
+
+        // 입력 파싱 오류로 중간에 멈췄는지
+        public boolean isAborted() { return aborted; }
+        public void setAborted(boolean aborted) { this.aborted = aborted; }
+    }
+
     public static class LoginRequest {
         @NotBlank(message = "이메일은 필수입니다")
         private String email;
@@ -0,0 +1,70 @@
+package com.kduck.mapper;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+
+// 토큰 폐기 목록 영속화 (V2__create_token_revocation.sql 의 revoked_tokens, user_token_cutoffs)
+@Timed("kduck.db.query")
+@Repository
+public class TokenRevocationMapper {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TokenRevocationMapper(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertRevokedToken(String jti, long expiresAtMillis) {
+        String sql = "INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) ON CONFLICT (jti) DO NOTHING";
+        jdbcTemplate.update(sql, jti, new Timestamp(expiresAtMillis));
+    }
+
+    // 기존 기준 시각보다 늦을 때만 앞으로 당김
+    public void upsertUserCutoff(Long userId, long issuedBeforeMillis, long expiresAtMillis) {
+        String sql = "INSERT INTO user_token_cutoffs (user_id, issued_before, expires_at) VALUES (?, ?, ?) " +
+                "ON CONFLICT (user_id) DO UPDATE SET " +
+                "issued_before = GREATEST(user_token_cutoffs.issued_before, EXCLUDED.issued_before), " +
+                "expires_at = GREATEST(user_token_cutoffs.expires_at, EXCLUDED.expires_at), " +
+                "revoked_at = CURRENT_TIMESTAMP";
+        jdbcTemplate.update(sql, userId, new Timestamp(issuedBeforeMillis), new Timestamp(expiresAtMillis));
+    }
+
+    // since 이후에 폐기된, 아직 만료되지 않은 항목 (기동 시에는 since = 0 으로 전체)
+    public void forEachRevokedTokenSince(long sinceMillis, RevokedTokenHandler handler) {
+        String sql = "SELECT jti, expires_at FROM revoked_tokens " +
+                "WHERE revoked_at > ? AND expires_at > CURRENT_TIMESTAMP";
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                        handler.accept(rs.getString(1), rs.getTimestamp(2).getTime()),
+                new Timestamp(sinceMillis));
+    }
+
+    public void forEachUserCutoffSince(long sinceMillis, UserCutoffHandler handler) {
+        String sql = "SELECT user_id, issued_before, expires_at FROM user_token_cutoffs " +
+                "WHERE revoked_at > ? AND expires_at > CURRENT_TIMESTAMP";
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                        handler.accept(rs.getLong(1), rs.getTimestamp(2).getTime(), rs.getTimestamp(3).getTime()),
+                new Timestamp(sinceMillis));
+    }
+
+    // 가리키는 토큰이 모두 만료된 항목 삭제
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= CURRENT_TIMESTAMP")
+                + jdbcTemplate.update("DELETE FROM user_token_cutoffs WHERE expires_at <= CURRENT_TIMESTAMP");
+    }
+
+    @FunctionalInterface
+    public interface RevokedTokenHandler {
+        void accept(String jti, long expiresAtMillis);
+    }
+
+    @FunctionalInterface
+    public interface UserCutoffHandler {
+        void accept(long userId, long issuedBeforeMillis, long expiresAtMillis);
+    }
+}
@@ -1,53 +1,76 @@
 package com.kduck.mapper;
 
 import com.kduck.dto.UserDto;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+// 메서드별 쿼리 시간 (kduck.db.query, method 태그)
+@Timed("kduck.db.query")
 @Repository
 public class UserMapper {
 
+    // 유니크 인덱스 이름 (V1__create_users.sql)
+    private static final String EMAIL_CONSTRAINT = "ux_users_email_lower";
+    private static final String USERNAME_CONSTRAINT = "ux_users_username";
+    // unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+    // 오류 상세의 키 컬럼 - "Key (email)=(...)", "Key (lower((email)::text))=(...)" (문구는 서버 언어에 따라 달라도 괄호 형식은 같음)
+    private static final Pattern KEY_COLUMN = Pattern.compile("\\((?:lower\\(\\()?(\\w+)\\)");
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
-    private final PasswordEncoder passwordEncoder;
 
     @Autowired
-    public UserMapper(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+    public UserMapper(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
-        this.passwordEncoder = passwordEncoder;
     }
 
-    private final RowMapper<UserDto.Response> userRowMapper = new RowMapper<UserDto.Response>() {
+    // 공개 프로필 컬럼 - 순서는 profileRowMapper 의 인덱스와 일치해야 함 (비밀번호 해시 제외)
+    private static final String PROFILE_COLUMNS =
+            "id, username, email, nickname, profile_image_url, is_anonymous, created_at, updated_at";
+
+    // 패키지 공개 - RowMapperBenchmark 에서 사용
+    final RowMapper<UserDto.Response> profileRowMapper = new RowMapper<UserDto.Response>() {
         @Override
         public UserDto.Response mapRow(ResultSet rs, int rowNum) throws SQLException {
             UserDto.Response user = new UserDto.Response();
-            user.setId(rs.getLong("id"));
-            user.setUsername(rs.getString("username"));
-            user.setEmail(rs.getString("email"));
-            user.setNickname(rs.getString("nickname"));
-            user.setProfileImageUrl(rs.getString("profile_image_url"));
-            user.setAnonymous(rs.getBoolean("is_anonymous"));
-            user.setPassword(rs.getString("password"));
-
-            Timestamp createdAt = rs.getTimestamp("created_at");
+            user.setId(rs.getLong(1));
+            user.setUsername(rs.getString(2));
+            user.setEmail(rs.getString(3));
+            user.setNickname(rs.getString(4));
+            user.setProfileImageUrl(rs.getString(5));
+            user.setAnonymous(rs.getBoolean(6));
+
+            Timestamp createdAt = rs.getTimestamp(7);
             if (createdAt != null) {
                 user.setCreatedAt(createdAt.toLocalDateTime());
             }
 
-            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            Timestamp updatedAt = rs.getTimestamp(8);
             if (updatedAt != null) {
                 user.setUpdatedAt(updatedAt.toLocalDateTime());
             }
@@ -56,138 +79,284 @@ public class UserMapper {
         }
     };
 
-    public UserDto.Response insertUser(UserDto.Request request) {
-        String sql = "INSERT INTO users (username, email, password, nickname) VALUES (?, ?, ?, ?)";
-
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-
-        jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, request.getUsername());
-            ps.setString(2, request.getEmail());
-            ps.setString(3, passwordEncoder.encode(request.getPassword()));
-            ps.setString(4, request.getNickname());
-            return ps;
-        }, keyHolder);
+    // 로그인 전용 (id, email, password)
+    private final RowMapper<UserDto.Credentials> credentialsRowMapper = new RowMapper<UserDto.Credentials>() {
+        @Override
+        public UserDto.Credentials mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new UserDto.Credentials(rs.getLong(1), rs.getString(2), rs.getString(3));
+        }
+    };
 
-        Long id = null;
+    // 비밀번호는 호출 측에서 해시한 값을 전달
+    // INSERT ... RETURNING 으로 한 번에 저장 + 조회, 중복은 DuplicateKeyException (duplicateColumn 참고)
+    public UserDto.Response insertUser(UserDto.Request request, String encodedPassword) {
+        String sql = "INSERT INTO users (username, email, password, nickname) VALUES (?, ?, ?, ?) RETURNING " + PROFILE_COLUMNS;
+        return jdbcTemplate.queryForObject(sql, profileRowMapper,
+                request.getUsername(), request.getEmail(), encodedPassword, request.getNickname());
+    }
 
-        // getKeyList()로 키 리스트를 받아서 첫번째 행의 id를 가져오기
-        if (!keyHolder.getKeyList().isEmpty()) {
-            Map<String, Object> keys = keyHolder.getKeyList().get(0);
-            Object idObj = keys.get("id");
-            if (idObj != null) {
-                id = Long.valueOf(idObj.toString());
-            }
+    // 대량 가져오기용 INSERT (배열 unnest 로 한 문장) - 중복(이메일/사용자명)은 건너뛰고 실제로 생성된 행만 반환
+    public List<UserDto.SearchResult> insertUsersIgnoringDuplicates(List<UserDto.Request> requests,
+                                                                    List<String> encodedPasswords) {
+        String sql = "INSERT INTO users (username, email, password, nickname) " +
+                "SELECT * FROM unnest(?, ?, ?, ?) " +
+                "ON CONFLICT DO NOTHING RETURNING id, username, nickname, profile_image_url";
+        String[][] columns = new String[4][requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            UserDto.Request request = requests.get(i);
+            columns[0][i] = request.getUsername();
+            columns[1][i] = request.getEmail();
+            columns[2][i] = encodedPasswords.get(i);
+            columns[3][i] = request.getNickname();
         }
+        return jdbcTemplate.query(sql, ps -> {
+            for (int c = 0; c < columns.length; c++) {
+                ps.setArray(c + 1, ps.getConnection().createArrayOf("varchar", columns[c]));
+            }
+        }, (rs, rowNum) -> new UserDto.SearchResult(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+    }
 
-        if (id == null) {
-            throw new RuntimeException("Failed to retrieve generated user ID");
-        }
+    // 게스트 ID 블록 예약 (hi/lo) - users.id 시퀀스에서 count 개를 한 번에 받아 둠 (연속이라는 보장은 없음)
+    public long[] reserveUserIds(int count) {
+        String sql = "SELECT nextval(pg_get_serial_sequence('users', 'id')) FROM generate_series(1, ?)";
+        return jdbcTemplate.queryForList(sql, Long.class, count).stream().mapToLong(Long::longValue).toArray();
+    }
 
-        return findById(id).orElse(null);
+    // 게스트 일괄 INSERT - 미리 예약한 id 로, 배열 두 개를 unnest 해서 한 문장으로
+    // 게스트는 만들 때가 곧 로그인이므로 마지막 로그인/활동 시각도 같이 기록
+    public int insertGuests(Long[] ids, Timestamp[] createdAt) {
+        String sql = "INSERT INTO users (id, is_anonymous, created_at, last_login_at, last_seen_at) " +
+                "SELECT v.id, TRUE, v.created_at, v.created_at, v.created_at " +
+                "FROM unnest(?, ?) AS v(id, created_at) " +
+                "ON CONFLICT (id) DO NOTHING";
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("timestamp", createdAt));
+        });
     }
 
+    // 게스트 -> 일반 계정 전환, 게스트가 아니거나 없으면 empty / 중복은 DuplicateKeyException
+    public Optional<UserDto.Response> upgradeGuest(Long id, UserDto.Request request, String encodedPassword) {
+        String sql = "UPDATE users SET username = ?, email = ?, password = ?, " +
+                "nickname = COALESCE(?, nickname), is_anonymous = FALSE, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? AND is_anonymous RETURNING " + PROFILE_COLUMNS;
+        List<UserDto.Response> rows = jdbcTemplate.query(sql, profileRowMapper, request.getUsername(),
+                request.getEmail(), encodedPassword, request.getNickname(), id);
+        return rows.stream().findFirst();
+    }
+
+    // 단건 조회는 query + singleResult - 없으면 empty (queryForObject 처럼 EmptyResultDataAccessException 을 만들지 않음)
     public Optional<UserDto.Response> findById(Long id) {
-        String sql = "SELECT * FROM users WHERE id = ?";
-        try {
-            UserDto.Response user = jdbcTemplate.queryForObject(sql, userRowMapper, id);
-            return Optional.ofNullable(user);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE id = ?";
+        return findOne(sql, profileRowMapper, id);
     }
 
     public Optional<UserDto.Response> findByEmail(String email) {
-        String sql = "SELECT * FROM users WHERE email = ?";
-//        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-//        System.out.println(sql);
-        try {
-            UserDto.Response user = jdbcTemplate.queryForObject(sql, userRowMapper, email);
-            return Optional.ofNullable(user);
-        } catch (Exception e) {
-//            System.out.println("None");
-            return Optional.empty();
-        }
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE lower(email) = lower(?)";
+        return findOne(sql, profileRowMapper, email);
     }
 
     public Optional<UserDto.Response> findByUsername(String username) {
-        String sql = "SELECT * FROM users WHERE username = ?";
-        try {
-            UserDto.Response user = jdbcTemplate.queryForObject(sql, userRowMapper, username);
-            return Optional.ofNullable(user);
-        } catch (Exception e) {
-            return Optional.empty();
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE username = ?";
+        return findOne(sql, profileRowMapper, username);
+    }
+
+    // 다건 조회 - = ANY(?) 한 번으로 (순서는 보장하지 않음)
+    public List<UserDto.Response> findByIds(Collection<Long> ids) {
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE id = ANY(?)";
+        return jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                profileRowMapper);
+    }
+
+    public List<UserDto.Response> findByUsernames(Collection<String> usernames) {
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE username = ANY(?)";
+        return jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", usernames.toArray())),
+                profileRowMapper);
+    }
+
+    // 전체 내보내기 - 서버 커서로 fetch size 만큼씩 가져옴 (읽기 전용 트랜잭션 안에서 호출, 사용 후 반드시 close)
+    // 순서 없이 테이블 순서대로 (정렬 비용 없이 첫 행이 바로 나오도록)
+    public Stream<UserDto.Response> streamAll() {
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users";
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, profileRowMapper);
+    }
+
+    // 키셋 페이지네이션 - (created_at, id) 기준 내림차순, after 가 null 이면 첫 페이지
+    public List<UserDto.Response> findPage(LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        if (afterCreatedAt == null || afterId == null) {
+            String sql = "SELECT " + PROFILE_COLUMNS + " FROM users ORDER BY created_at DESC, id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, profileRowMapper, limit);
         }
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM users WHERE (created_at, id) < (?, ?) " +
+                "ORDER BY created_at DESC, id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, profileRowMapper, Timestamp.valueOf(afterCreatedAt), afterId, limit);
+    }
+
+    // 조건부 GET 용 버전만 조회 (본문 컬럼 없이)
+    public Optional<LocalDateTime> findVersionById(Long id) {
+        String sql = "SELECT COALESCE(updated_at, created_at) FROM users WHERE id = ?";
+        List<Timestamp> rows = jdbcTemplate.queryForList(sql, Timestamp.class, id);
+        return rows.stream().findFirst().map(Timestamp::toLocalDateTime);
     }
 
-    public List<UserDto.Response> findAll() {
-        String sql = "SELECT * FROM users ORDER BY created_at DESC";
-        return jdbcTemplate.query(sql, userRowMapper);
+    // findPage 와 같은 순서/범위의 (id -> 버전)
+    public Map<Long, LocalDateTime> findPageVersions(LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        Map<Long, LocalDateTime> versions = new LinkedHashMap<>();
+        RowCallbackHandler handler = rs -> {
+            Timestamp version = rs.getTimestamp(2);
+            versions.put(rs.getLong(1), version == null ? null : version.toLocalDateTime());
+        };
+        if (afterCreatedAt == null || afterId == null) {
+            String sql = "SELECT id, COALESCE(updated_at, created_at) FROM users " +
+                    "ORDER BY created_at DESC, id DESC LIMIT ?";
+            jdbcTemplate.query(sql, handler, limit);
+        } else {
+            String sql = "SELECT id, COALESCE(updated_at, created_at) FROM users WHERE (created_at, id) < (?, ?) " +
+                    "ORDER BY created_at DESC, id DESC LIMIT ?";
+            jdbcTemplate.query(sql, handler, Timestamp.valueOf(afterCreatedAt), afterId, limit);
+        }
+        return versions;
     }
 
     public boolean existsByEmail(String email) {
-        String sql = "SELECT COUNT(*) FROM users WHERE email = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, email);
-        return count != null && count > 0;
+        String sql = "SELECT EXISTS (SELECT 1 FROM users WHERE lower(email) = lower(?))";
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, email));
     }
 
     public boolean existsByUsername(String username) {
-        String sql = "SELECT COUNT(*) FROM users WHERE username = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, username);
-        return count != null && count > 0;
+        String sql = "SELECT EXISTS (SELECT 1 FROM users WHERE username = ?)";
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, username));
     }
 
-    public UserDto.Response updateUser(Long id, UserDto.Request request) {
-        StringBuilder sql = new StringBuilder("UPDATE users SET ");
-        StringBuilder setClauses = new StringBuilder();
+    // 통계 기반 추정 건수 (count(*) 전체 스캔 없이) - 한 번도 ANALYZE 되지 않았으면 0
+    public long estimateUserCount() {
+        String sql = "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'users'::regclass";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
 
-        if (request.getUsername() != null) {
-            setClauses.append("username = ?, ");
-        }
-        if (request.getEmail() != null) {
-            setClauses.append("email = ?, ");
-        }
-        if (request.getNickname() != null) {
-            setClauses.append("nickname = ?, ");
-        }
+    // 전체 이메일/사용자명을 fetch size 단위로 흘려보냄 (서버 커서 - 읽기 전용 트랜잭션 안에서 호출)
+    public void forEachEmailAndUsername(BiConsumer<String, String> consumer) {
+        stream("SELECT email, username FROM users WHERE NOT is_anonymous",
+                rs -> consumer.accept(rs.getString(1), rs.getString(2)));
+    }
 
-        setClauses.append("updated_at = CURRENT_TIMESTAMP ");
-        sql.append(setClauses.toString());
-        sql.append("WHERE id = ?");
+    // 검색 색인 구성용 - 목록에 보여줄 최소 컬럼만 (이름이 없는 게스트 제외)
+    public void forEachSearchResult(Consumer<UserDto.SearchResult> consumer) {
+        stream("SELECT id, username, nickname, profile_image_url FROM users WHERE NOT is_anonymous",
+                rs -> consumer.accept(new UserDto.SearchResult(
+                        rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4))));
+    }
 
-        jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql.toString());
-            int paramIndex = 1;
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
 
-            if (request.getUsername() != null) {
-                ps.setString(paramIndex++, request.getUsername());
-            }
-            if (request.getEmail() != null) {
-                ps.setString(paramIndex++, request.getEmail());
-            }
-            if (request.getNickname() != null) {
-                ps.setString(paramIndex++, request.getNickname());
-            }
+    // null 인 필드는 기존 값 유지, 대상이 없으면 empty
+    public Optional<UserDto.Response> updateUser(Long id, UserDto.Request request) {
+        String sql = "UPDATE users SET " +
+                "username = COALESCE(?, username), " +
+                "email = COALESCE(?, email), " +
+                "nickname = COALESCE(?, nickname), " +
+                "updated_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? RETURNING " + PROFILE_COLUMNS;
 
-            ps.setLong(paramIndex, id);
-            return ps;
-        });
+        List<UserDto.Response> rows = jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, request.getUsername());
+            ps.setString(2, request.getEmail());
+            ps.setString(3, request.getNickname());
+            ps.setLong(4, id);
+        }, profileRowMapper);
+        return rows.stream().findFirst();
+    }
 
-        return findById(id).orElse(null);
+    // 프로필 이미지 처리 완료 후 반영 (updated_at 도 바꿔서 조건부 GET 이 새 버전을 받도록), 대상이 없으면 empty
+    // 더 나중에 올린 이미지가 이미 반영됐어도 empty - 썸네일 작업이 업로드 순서와 다르게 끝나도 최신 이미지 유지
+    public Optional<UserDto.Response> updateProfileImageUrl(Long id, String profileImageUrl, LocalDateTime uploadedAt) {
+        String sql = "UPDATE users SET profile_image_url = ?, profile_image_uploaded_at = ?, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? AND (profile_image_uploaded_at IS NULL OR profile_image_uploaded_at < ?) " +
+                "RETURNING " + PROFILE_COLUMNS;
+        Timestamp uploaded = Timestamp.valueOf(uploadedAt);
+        List<UserDto.Response> rows = jdbcTemplate.query(sql, profileRowMapper, profileImageUrl, uploaded, id, uploaded);
+        return rows.stream().findFirst();
     }
 
-    public void deleteUser(Long id) {
+    public boolean deleteUser(Long id) {
         String sql = "DELETE FROM users WHERE id = ?";
-        jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(sql, id) > 0;
     }
 
-    public String getPasswordByEmail(String email) {
-        String sql = "SELECT password FROM users WHERE email = ?";
-        try {
-            return jdbcTemplate.queryForObject(sql, String.class, email);
-        } catch (Exception e) {
+    // 마지막 로그인/활동 시각 일괄 반영 - 배열 세 개를 unnest 해서 UPDATE 한 번으로
+    // 더 오래된 값으로 덮어쓰지 않도록 GREATEST (null 은 무시됨)
+    public int updateActivity(Long[] ids, Timestamp[] lastLoginAt, Timestamp[] lastSeenAt) {
+        String sql = "UPDATE users u SET " +
+                "last_login_at = GREATEST(u.last_login_at, v.last_login_at), " +
+                "last_seen_at = GREATEST(u.last_seen_at, v.last_seen_at) " +
+                "FROM unnest(?, ?, ?) AS v(id, last_login_at, last_seen_at) " +
+                "WHERE u.id = v.id";
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("timestamp", lastLoginAt));
+            ps.setArray(3, ps.getConnection().createArrayOf("timestamp", lastSeenAt));
+        });
+    }
+
+    // 유니크 제약 위반이 어느 컬럼인지 ("email" / "username"), 알 수 없으면 null
+    // V1 인덱스 이름이 메시지에 있으면 그것으로, 아니면 (이미 있던 DB 를 받아들여 users_email_key 처럼 이름이 다를 때) 오류 상세의 키 컬럼으로
+    public static String duplicateColumn(DuplicateKeyException e) {
+        SQLException sqlException = sqlException(e);
+        if (sqlException == null || !UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
             return null;
         }
+        String message = String.valueOf(sqlException.getMessage());
+        if (message.contains("\"" + EMAIL_CONSTRAINT + "\"")) {
+            return "email";
+        }
+        if (message.contains("\"" + USERNAME_CONSTRAINT + "\"")) {
+            return "username";
+        }
+        Matcher matcher = KEY_COLUMN.matcher(message);
+        if (matcher.find()) {
+            String column = matcher.group(1);
+            if ("email".equals(column) || "username".equals(column)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    private static SQLException sqlException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+
+    // 기존 해시가 그대로일 때만 교체 (그 사이 비밀번호가 바뀌었으면 건드리지 않음)
+    public boolean updatePassword(Long id, String currentHash, String newHash) {
+        String sql = "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+        return jdbcTemplate.update(sql, newHash, id, currentHash) > 0;
+    }
+
+    public Optional<UserDto.Credentials> findCredentialsByEmail(String email) {
+        String sql = "SELECT id, email, password FROM users WHERE lower(email) = lower(?)";
+        return findOne(sql, credentialsRowMapper, email);
+    }
+
+    // 유니크 키 조회 - 2건 이상이면 (인덱스가 없는 등) IncorrectResultSizeDataAccessException, DB 오류는 그대로 전달
+    private <T> Optional<T> findOne(String sql, RowMapper<T> rowMapper, Object key) {
+        return Optional.ofNullable(DataAccessUtils.singleResult(jdbcTemplate.query(sql, rowMapper, key)));
     }
 }
@@ -0,0 +1,170 @@
+package com.kduck.service;
+
+import com.kduck.common.DomainException;
+import com.kduck.config.ReadYourWrites;
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게스트 계정 (가입 없이 둘러보는 팬) - 비밀번호 해시, 중복 확인 없이 id 만 발급
+// id 는 users 시퀀스에서 블록 단위로 미리 받아 두고 (hi/lo), 행은 메모리에 모았다가 주기적으로 일괄 INSERT (write-behind)
+// 반영 전에도 토큰은 바로 쓸 수 있고, 그 사이 조회는 findPending 으로
+@Service
+public class GuestAccountService {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestAccountService.class);
+
+    private final UserMapper userMapper;
+    private final ReadYourWrites readYourWrites;
+    private final int idBlockSize;
+    private final int batchSize;
+    private final int maxPending;
+
+    // 예약해 둔 id 블록 - idLock 으로 보호
+    // 락을 잡은 채 DB 를 다녀오므로 synchronized 대신 ReentrantLock (가상 스레드 모드에서 캐리어 스레드를 붙잡지 않도록)
+    private final ReentrantLock idLock = new ReentrantLock();
+    private long[] idBlock = new long[0];
+    private int nextIdIndex;
+
+    // 아직 INSERT 되지 않은 게스트 (id -> 생성 시각)
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter created;
+    private final Counter flushed;
+
+    public GuestAccountService(UserMapper userMapper, ReadYourWrites readYourWrites, MeterRegistry meterRegistry,
+                               @Value("${user.guest.id-block-size:100}") int idBlockSize,
+                               @Value("${user.guest.batch-size:1000}") int batchSize,
+                               @Value("${user.guest.max-pending:10000}") int maxPending) {
+        this.userMapper = userMapper;
+        this.readYourWrites = readYourWrites;
+        this.idBlockSize = idBlockSize;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+
+        this.created = Counter.builder("kduck.user.guest.created").register(meterRegistry);
+        this.flushed = Counter.builder("kduck.user.guest.flushed").register(meterRegistry);
+        Gauge.builder("kduck.user.guest.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // 대기 중인 게스트가 너무 많으면 (DB 가 느리거나 장애) 요청 스레드에서 먼저 반영하고, 그래도 못 하면 거절
+    public UserDto.Response createGuest() {
+        if (pending.size() >= maxPending) {
+            flush();
+            if (pending.size() >= maxPending) {
+                throw new DomainException.Busy("게스트 계정을 만들 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        Long id = nextId();
+        LocalDateTime createdAt = LocalDateTime.now();
+        pending.put(id, createdAt);
+        created.increment();
+        return guest(id, createdAt);
+    }
+
+    // 아직 INSERT 되지 않은 게스트 - 없으면 empty (DB 에서 조회)
+    public Optional<UserDto.Response> findPending(Long id) {
+        LocalDateTime createdAt = id == null ? null : pending.get(id);
+        return createdAt == null ? Optional.empty() : Optional.of(guest(id, createdAt));
+    }
+
+    // 전환 등 행이 있어야 하는 작업 전에 호출 - 대기 중이면 바로 반영
+    public void ensurePersisted(Long id) {
+        if (id != null && pending.containsKey(id)) {
+            flush();
+            if (pending.containsKey(id)) {
+                throw new DomainException.Busy("게스트 계정을 아직 저장하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+    }
+
+    private Long nextId() {
+        idLock.lock();
+        try {
+            if (nextIdIndex >= idBlock.length) {
+                idBlock = userMapper.reserveUserIds(idBlockSize);
+                nextIdIndex = 0;
+            }
+            return idBlock[nextIdIndex++];
+        } finally {
+            idLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.guest.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(Math.min(pending.size(), batchSize));
+            List<Timestamp> createdAt = new ArrayList<>(ids.size());
+            Iterator<Map.Entry<Long, LocalDateTime>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, LocalDateTime> entry = it.next();
+                ids.add(entry.getKey());
+                createdAt.add(Timestamp.valueOf(entry.getValue()));
+                if (ids.size() == batchSize || !it.hasNext()) {
+                    if (!write(ids, createdAt)) {
+                        return;
+                    }
+                    ids.clear();
+                    createdAt.clear();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 남은 게스트 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // INSERT 가 끝난 뒤에 대기 목록에서 빼야 그 사이 조회가 비지 않음 - 실패하면 그대로 두고 다음 주기에 재시도
+    private boolean write(List<Long> ids, List<Timestamp> createdAt) {
+        try {
+            userMapper.insertGuests(ids.toArray(new Long[0]), createdAt.toArray(new Timestamp[0]));
+            // 복제본에는 INSERT 뒤에도 한동안 없으므로
+            readYourWrites.record(ids.stream().map(ReadYourWrites::idKey).toArray(String[]::new));
+            ids.forEach(pending::remove);
+            flushed.increment(ids.size());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("게스트 계정 저장 실패 ({}명) - 다음 주기에 재시도: {}", ids.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static UserDto.Response guest(Long id, LocalDateTime createdAt) {
+        UserDto.Response user = new UserDto.Response();
+        user.setId(id);
+        user.setAnonymous(true);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
@@ -0,0 +1,153 @@
+package com.kduck.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그인 시도 제한 - 이메일별 / 클라이언트 IP 별 토큰 버킷
+// 비밀번호 검증(BCrypt)과 DB 조회 앞에서 걸러서 크리덴셜 스터핑이 CPU 를 잡아먹지 않도록
+// 버킷 상태는 AtomicLong 하나에 (마지막 충전 시각, 남은 토큰) 을 묶어서 CAS 로만 갱신 (락 없음)
+@Component
+public class LoginThrottle {
+
+    // 토큰은 1/1000 단위로 저장 (부분 충전 표현)
+    private static final long UNIT = 1000;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final boolean enabled;
+    private final Limit emailLimit;
+    private final Limit ipLimit;
+    private final int maxKeys;
+
+    private final Map<String, AtomicLong> emailBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> ipBuckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final long startNanos = System.nanoTime();
+
+    private final Counter emailRejected;
+    private final Counter ipRejected;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${login.throttle.enabled:true}") boolean enabled,
+                         @Value("${login.throttle.email.capacity:5}") int emailCapacity,
+                         @Value("${login.throttle.email.refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${login.throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${login.throttle.ip.refill-per-minute:30}") int ipRefillPerMinute,
+                         @Value("${login.throttle.max-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.emailLimit = new Limit(emailCapacity, emailRefillPerMinute);
+        this.ipLimit = new Limit(ipCapacity, ipRefillPerMinute);
+        this.maxKeys = maxKeys;
+
+        this.emailRejected = Counter.builder("kduck.login.throttled").tag("key", "email").register(meterRegistry);
+        this.ipRejected = Counter.builder("kduck.login.throttled").tag("key", "ip").register(meterRegistry);
+        Gauge.builder("kduck.login.throttle.keys", this, t -> t.emailBuckets.size() + t.ipBuckets.size())
+                .register(meterRegistry);
+    }
+
+    // 시도 1 회 차감 - 허용되면 0, 거절되면 다시 시도 가능할 때까지의 초
+    public long tryAcquire(String email, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = nowMillis();
+
+        if (clientIp != null) {
+            long wait = tryAcquire(ipBuckets, clientIp, ipLimit, now);
+            if (wait > 0) {
+                ipRejected.increment();
+                return wait;
+            }
+        }
+        if (email != null) {
+            long wait = tryAcquire(emailBuckets, email.trim().toLowerCase(Locale.ROOT), emailLimit, now);
+            if (wait > 0) {
+                emailRejected.increment();
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    private long tryAcquire(Map<String, AtomicLong> buckets, String key, Limit limit, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(buckets, limit, now);
+            }
+            AtomicLong created = new AtomicLong(pack(now, limit.capacity));
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long tokens = limit.refill(state & TOKEN_MASK, now - (state >>> TOKEN_BITS));
+            if (tokens < UNIT) {
+                return Math.max(1, (UNIT - tokens) * 60 / Math.max(1, limit.refillPerMinute * UNIT) + 1);
+            }
+            if (bucket.compareAndSet(state, pack(now, tokens - UNIT))) {
+                return 0;
+            }
+        }
+    }
+
+    // 키 공간 제한 - 가득 찬(= 한동안 시도가 없던) 버킷부터 제거, 그래도 넘치면 임의로 제거
+    private void sweep(Map<String, AtomicLong> buckets, Limit limit, long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> {
+                long state = bucket.get();
+                return limit.refill(state & TOKEN_MASK, now - (state >>> TOKEN_BITS)) >= limit.capacity;
+            });
+            Iterator<String> it = buckets.keySet().iterator();
+            int excess = buckets.size() - maxKeys + maxKeys / 10;
+            while (excess-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private long nowMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static long pack(long millis, long tokens) {
+        return (millis << TOKEN_BITS) | tokens;
+    }
+
+    private static final class Limit {
+        private final long capacity;       // 1/1000 단위
+        private final long refillPerMinute; // 토큰 단위
+
+        private Limit(int capacity, int refillPerMinute) {
+            this.capacity = Math.min((long) capacity * UNIT, TOKEN_MASK);
+            this.refillPerMinute = refillPerMinute;
+        }
+
+        private long refill(long tokens, long elapsedMillis) {
+            if (elapsedMillis <= 0) {
+                return tokens;
+            }
+            long added = elapsedMillis * refillPerMinute * UNIT / 60_000;
+            return Math.min(capacity, tokens + added);
+        }
+    }
+}
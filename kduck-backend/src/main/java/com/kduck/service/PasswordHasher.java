@@ -0,0 +1,180 @@
+package com.kduck.service;
+
+import com.kduck.common.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// BCrypt 전용 스레드 풀 - 요청 스레드가 해시 계산으로 CPU 를 점유하지 않도록 분리
+// 큐가 가득 차면 기다리지 않고 바로 DomainException.Busy (503)
+@Component
+public class PasswordHasher {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    // kduck.password.hash (op=encode|matches): 실제 해시 시간, kduck.password.queue.wait: 풀 대기 시간
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    // 대량 해시(가져오기)가 동시에 차지할 수 있는 스레드 수 - 로그인용으로 최소 한 개는 남김
+    private final Semaphore bulkPermits;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                          @Value("${password.hasher.threads:0}") int threads, // 0 이면 CPU 코어 수
+                          @Value("${password.hasher.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hasher.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.bulkPermits = new Semaphore(Math.max(1, poolSize - 1));
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("kduck.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("kduck.password.hash").tag("op", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("kduck.password.queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kduck.password.rejected").register(meterRegistry);
+        Gauge.builder("kduck.password.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("kduck.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return call(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 현재 설정된 cost 보다 낮은 cost 로 저장된 해시인지
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 응답을 기다리지 않는 백그라운드 해시 - 풀이 바쁘면 건너뜀 (다음 로그인 때 다시 시도)
+    public boolean encodeAsync(String rawPassword, Consumer<String> callback) {
+        try {
+            executor.execute(() -> callback.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 여러 비밀번호를 병렬로 해시 (입력 순서대로 반환)
+    // 풀이 바쁘면 실패 대신 잠시 기다렸다가 다시 제출 (대량 작업용 backpressure)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        String[] encoded = new String[rawPasswords.size()];
+        CountDownLatch done = new CountDownLatch(rawPasswords.size());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try {
+            for (int i = 0; i < rawPasswords.size(); i++) {
+                int index = i;
+                String rawPassword = rawPasswords.get(i);
+                bulkPermits.acquire();
+                Runnable task = () -> {
+                    try {
+                        encoded[index] = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        bulkPermits.release();
+                        done.countDown();
+                    }
+                };
+                while (true) {
+                    try {
+                        executor.execute(task);
+                        break;
+                    } catch (RejectedExecutionException e) {
+                        if (executor.isShutdown()) {
+                            bulkPermits.release();
+                            throw new DomainException.Busy(BUSY_MESSAGE);
+                        }
+                        TimeUnit.MILLISECONDS.sleep(10);
+                    }
+                }
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainException.Busy(BUSY_MESSAGE);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return Arrays.asList(encoded);
+    }
+
+    private <T> T call(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new DomainException.Busy(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DomainException.Busy(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DomainException.Busy(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,301 @@
+package com.kduck.service;
+
+import com.kduck.common.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+// 프로필 이미지 - 업로드는 요청 스트림을 그대로 디스크에 쓰고 (힙에 전체를 올리지 않음)
+// 썸네일은 전용 풀에서 만든 뒤 profile_image_url 을 바꿈 (큐가 가득 차면 DomainException.Busy)
+// 파일 이름은 내용의 SHA-256 이라 같은 이름이면 내용도 같음 -> 서빙 시 immutable 캐시
+//   {dir}/originals/{sha256}   업로드 원본 (다른 크기가 필요해지면 여기서 다시 생성)
+//   {dir}/{sha256}.jpg         썸네일 (GET /api/images/{sha256}.jpg)
+@Service
+public class ProfileImageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileImageService.class);
+
+    public static final String URL_PREFIX = "/api/images/";
+
+    private static final Set<String> FORMATS = Set.of("jpeg", "png", "gif");
+    private static final Pattern THUMBNAIL_NAME = Pattern.compile("[0-9a-f]{64}\\.jpg");
+    private static final int BUFFER_SIZE = 8192;
+
+    private final UserService userService;
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxPixels;
+    private final int thumbnailSize;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    // 사용자별 마지막 업로드 원본 (sha256) - 스레드가 여럿이라 썸네일이 업로드 순서와 다르게 끝날 수 있으므로
+    // 작업 시작/반영 전에 아직 마지막 업로드인지 확인 (이전 업로드의 작업은 버림), 반영하면 항목 제거
+    // 확인과 UPDATE 사이에 끼어드는 경우는 UPDATE 의 업로드 시각 조건이 막음 (맵 잠금을 잡은 채 DB 를 다녀오지 않음)
+    private final Map<Long, String> latestUploads = new ConcurrentHashMap<>();
+
+    private final Timer thumbnailTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter supersededCounter;
+
+    public ProfileImageService(UserService userService, MeterRegistry meterRegistry,
+                               @Value("${user.profile-image.dir:data/profile-images}") String directory,
+                               @Value("${user.profile-image.max-bytes:5242880}") long maxBytes,
+                               @Value("${user.profile-image.max-pixels:40000000}") long maxPixels,
+                               @Value("${user.profile-image.thumbnail-size:256}") int thumbnailSize,
+                               @Value("${user.profile-image.jpeg-quality:0.85}") float jpegQuality,
+                               @Value("${user.profile-image.threads:2}") int threads,
+                               @Value("${user.profile-image.queue-capacity:100}") int queueCapacity) {
+        this.userService = userService;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.maxPixels = maxPixels;
+        this.thumbnailSize = thumbnailSize;
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.thumbnailTimer = Timer.builder("kduck.profile-image.thumbnail").register(meterRegistry);
+        this.processedCounter = Counter.builder("kduck.profile-image.processed").register(meterRegistry);
+        this.failedCounter = Counter.builder("kduck.profile-image.failed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kduck.profile-image.rejected").register(meterRegistry);
+        this.supersededCounter = Counter.builder("kduck.profile-image.superseded").register(meterRegistry);
+        Gauge.builder("kduck.profile-image.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    // 원본을 저장하고 썸네일 작업을 예약 - 반영은 비동기 (완료되면 프로필의 profile_image_url 이 바뀜)
+    // 사용자가 없으면 DomainException.NotFound, 이미지가 아니거나 너무 크면 DomainException.InvalidRequest, 풀이 가득 차면 DomainException.Busy
+    public void upload(Long userId, InputStream in) throws IOException {
+        userService.getUserById(userId);
+
+        Path original = storeOriginal(in);
+        try {
+            read(original, false);
+        } catch (DomainException.InvalidRequest | IOException e) {
+            Files.deleteIfExists(original);
+            throw e instanceof DomainException.InvalidRequest invalid ? invalid : new DomainException.InvalidRequest("이미지를 읽을 수 없습니다.");
+        }
+        String hash = original.getFileName().toString();
+        LocalDateTime uploadedAt = LocalDateTime.now();
+        String previous = latestUploads.put(userId, hash);
+        try {
+            executor.execute(() -> createThumbnail(userId, original, uploadedAt));
+        } catch (RejectedExecutionException e) {
+            // 거절된 업로드는 없던 것으로 - 대기 중인 이전 업로드가 있으면 그대로 반영되도록 되돌림
+            if (previous == null) {
+                latestUploads.remove(userId, hash);
+            } else {
+                latestUploads.replace(userId, hash, previous);
+            }
+            rejectedCounter.increment();
+            throw new DomainException.Busy("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 썸네일 파일 - 이름 형식이 다르거나 없으면 null (경로 조작 방지를 위해 형식을 먼저 확인)
+    public Path resolveThumbnail(String name) {
+        if (name == null || !THUMBNAIL_NAME.matcher(name).matches()) {
+            return null;
+        }
+        Path file = directory.resolve(name);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    // 받으면서 해시를 계산하고 크기 제한을 넘으면 중단 - 임시 파일에 쓴 뒤 해시 이름으로 이동 (같은 내용이면 기존 파일 재사용)
+    private Path storeOriginal(InputStream in) throws IOException {
+        Path originals = Files.createDirectories(directory.resolve("originals"));
+        Path temp = Files.createTempFile(Files.createDirectories(directory.resolve("tmp")), "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long total = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxBytes) {
+                        throw new DomainException.InvalidRequest("이미지는 최대 " + maxBytes + " 바이트까지 올릴 수 있습니다.");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (total == 0) {
+                throw new DomainException.InvalidRequest("이미지가 비어 있습니다.");
+            }
+            return moveToHashName(temp, originals.resolve(HexFormat.of().formatHex(digest.digest())));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void createThumbnail(Long userId, Path original, LocalDateTime uploadedAt) {
+        String hash = original.getFileName().toString();
+        if (!hash.equals(latestUploads.get(userId))) {
+            // 그 사이 새 이미지가 올라옴 - 썸네일을 만들 필요도 없음
+            supersededCounter.increment();
+            return;
+        }
+        try {
+            byte[] thumbnail = thumbnailTimer.recordCallable(() -> encodeJpeg(square(read(original, true))));
+            Path temp = Files.createTempFile(directory.resolve("tmp"), "thumbnail-", ".tmp");
+            String name = HexFormat.of().formatHex(sha256().digest(thumbnail)) + ".jpg";
+            try {
+                Files.write(temp, thumbnail);
+                moveToHashName(temp, directory.resolve(name));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            if (!hash.equals(latestUploads.get(userId))) {
+                supersededCounter.increment();
+                return;
+            }
+            // 이 사이에 새 업로드가 반영됐으면 업로드 시각 조건 때문에 바뀌지 않음 (empty)
+            if (userService.updateProfileImage(userId, URL_PREFIX + name, uploadedAt).isPresent()) {
+                processedCounter.increment();
+            }
+            latestUploads.remove(userId, hash);
+        } catch (Exception e) {
+            latestUploads.remove(userId, hash);
+            failedCounter.increment();
+            log.warn("프로필 이미지 처리 실패 (userId={}, {}): {}", userId, original.getFileName(), e.getMessage());
+        }
+    }
+
+    // 헤더로 형식과 해상도부터 확인하고 decode 일 때만 디코딩 (작은 파일로 거대한 비트맵을 만드는 이미지 방지)
+    // 업로드 요청에서는 확인만 (이미지가 아니면 바로 400), 디코딩은 썸네일 풀에서
+    private BufferedImage read(Path original, boolean decode) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new DomainException.InvalidRequest("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                if (!FORMATS.contains(reader.getFormatName().toLowerCase(Locale.ROOT))) {
+                    throw new DomainException.InvalidRequest("지원하지 않는 이미지 형식입니다: " + reader.getFormatName());
+                }
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new DomainException.InvalidRequest("이미지 해상도가 너무 큽니다.");
+                }
+                return decode ? reader.read(0) : null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가운데를 정사각형으로 잘라 thumbnailSize 로 축소 (알파는 흰 배경으로)
+    private BufferedImage square(BufferedImage source) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+
+        BufferedImage target = new BufferedImage(thumbnailSize, thumbnailSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, thumbnailSize, thumbnailSize);
+            g.drawImage(source, 0, 0, thumbnailSize, thumbnailSize, x, y, x + side, y + side, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Path moveToHashName(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            return target;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 올라온 경우 - 먼저 옮긴 파일 사용
+        }
+        return target;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
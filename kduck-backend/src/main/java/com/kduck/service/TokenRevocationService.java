@@ -0,0 +1,95 @@
+package com.kduck.service;
+
+import com.kduck.config.TokenDenylist;
+import com.kduck.mapper.TokenRevocationMapper;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+// 토큰 폐기 - DB 에 기록하고 메모리 목록(TokenDenylist)에 반영
+// 다른 인스턴스에서 폐기한 항목은 주기적으로 revoked_at 기준 증분 조회로 가져옴
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // 커밋 지연 / 서버 간 시계 차이를 감안해 증분 조회 구간을 겹치게 잡음
+    private static final long SYNC_OVERLAP_MILLIS = 30_000;
+
+    private final TokenRevocationMapper tokenRevocationMapper;
+    private final TokenDenylist denylist;
+    private final long tokenLifetimeMillis;
+
+    // 0 이면 아직 전체 로드 전
+    private volatile long syncedAt;
+
+    public TokenRevocationService(TokenRevocationMapper tokenRevocationMapper, TokenDenylist denylist,
+                                  @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis) {
+        this.tokenRevocationMapper = tokenRevocationMapper;
+        this.denylist = denylist;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    // 로그아웃 - 해당 토큰만 폐기 (jti 가 없는 예전 토큰은 그 발급 시각까지의 사용자 토큰을 폐기)
+    public void revokeToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration == null ? System.currentTimeMillis() + tokenLifetimeMillis : expiration.getTime();
+
+        if (claims.getId() == null) {
+            Long userId = claims.get("userId", Long.class);
+            Date issuedAt = claims.getIssuedAt();
+            if (userId != null && issuedAt != null) {
+                revokeUser(userId, issuedAt.getTime(), expiresAt);
+            }
+            return;
+        }
+        tokenRevocationMapper.insertRevokedToken(claims.getId(), expiresAt);
+        denylist.revokeToken(claims.getId(), expiresAt);
+    }
+
+    // 전체 로그아웃 / 탈퇴 - 지금까지 발급된 그 사용자의 토큰을 모두 폐기
+    public void revokeAllForUser(Long userId) {
+        long now = System.currentTimeMillis();
+        revokeUser(userId, now, now + tokenLifetimeMillis);
+    }
+
+    private void revokeUser(Long userId, long issuedBeforeMillis, long expiresAtMillis) {
+        tokenRevocationMapper.upsertUserCutoff(userId, issuedBeforeMillis, expiresAtMillis);
+        denylist.revokeUser(userId, issuedBeforeMillis / 1000, expiresAtMillis);
+    }
+
+    // 기동 직후 전체 로드, 이후 증분 - DB 를 못 쓰면 다음 주기에 다시 시도
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.denylist.sync-interval-ms:10000}")
+    public void sync() {
+        long startedAt = System.currentTimeMillis();
+        long since = syncedAt == 0 ? 0 : syncedAt - SYNC_OVERLAP_MILLIS;
+        try {
+            tokenRevocationMapper.forEachRevokedTokenSince(since, denylist::revokeToken);
+            tokenRevocationMapper.forEachUserCutoffSince(since, (userId, issuedBefore, expiresAt) ->
+                    denylist.revokeUser(userId, issuedBefore / 1000, expiresAt));
+            if (syncedAt == 0) {
+                log.info("토큰 폐기 목록 로드 완료 ({}건)", denylist.size());
+            }
+            syncedAt = startedAt;
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jwt.denylist.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${jwt.denylist.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        try {
+            int deleted = tokenRevocationMapper.deleteExpired();
+            log.debug("만료된 토큰 폐기 항목 {}건 삭제", deleted);
+        } catch (DataAccessException e) {
+            log.warn("만료된 토큰 폐기 항목 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
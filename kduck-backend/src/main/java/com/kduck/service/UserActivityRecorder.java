@@ -0,0 +1,143 @@
+package com.kduck.service;
+
+import com.kduck.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마지막 로그인 / 활동 시각 write-behind
+// 요청마다 UPDATE 하지 않고 사용자별로 최신 값 하나만 모아 두었다가 주기적으로 UPDATE ... FROM unnest 로 일괄 반영
+// -> 사용자 한 명당 flush 주기마다 최대 한 번 쓰기
+@Component
+public class UserActivityRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(UserActivityRecorder.class);
+
+    private final UserMapper userMapper;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final Map<Long, Activity> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushed;
+    private final Counter dropped;
+
+    public UserActivityRecorder(UserMapper userMapper, MeterRegistry meterRegistry,
+                                @Value("${user.activity.batch-size:1000}") int batchSize,
+                                @Value("${user.activity.max-pending:100000}") int maxPending) {
+        this.userMapper = userMapper;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+
+        this.flushed = Counter.builder("kduck.user.activity.flushed").register(meterRegistry);
+        this.dropped = Counter.builder("kduck.user.activity.dropped").register(meterRegistry);
+        Gauge.builder("kduck.user.activity.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void recordLogin(Long userId) {
+        long now = System.currentTimeMillis();
+        record(userId, new Activity(now, now));
+    }
+
+    public void recordSeen(Long userId) {
+        record(userId, new Activity(0, System.currentTimeMillis()));
+    }
+
+    // 대기 중인 사용자가 너무 많으면 (DB 장애 등) 새 사용자의 활동 시각은 버림 - 이미 있는 사용자는 계속 갱신
+    private void record(Long userId, Activity activity) {
+        if (userId == null) {
+            return;
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            dropped.increment();
+            return;
+        }
+        pending.merge(userId, activity, Activity::latest);
+    }
+
+    @Scheduled(fixedDelayString = "${user.activity.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(Math.min(pending.size(), batchSize));
+        List<Activity> activities = new ArrayList<>(ids.size());
+        Iterator<Map.Entry<Long, Activity>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Activity> entry = it.next();
+            // 꺼내는 사이에 갱신된 값은 남겨두고 다음 주기에 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                ids.add(entry.getKey());
+                activities.add(entry.getValue());
+            }
+            if (ids.size() == batchSize || !it.hasNext()) {
+                if (!write(ids, activities)) {
+                    return;
+                }
+                ids.clear();
+                activities.clear();
+            }
+        }
+    }
+
+    // 종료 시 남은 값 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 실패하면 꺼낸 값을 되돌려 놓고 다음 주기에 다시 시도
+    private boolean write(List<Long> ids, List<Activity> activities) {
+        if (ids.isEmpty()) {
+            return true;
+        }
+        Timestamp[] lastLoginAt = new Timestamp[ids.size()];
+        Timestamp[] lastSeenAt = new Timestamp[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            Activity activity = activities.get(i);
+            lastLoginAt[i] = activity.lastLoginAt == 0 ? null : new Timestamp(activity.lastLoginAt);
+            lastSeenAt[i] = new Timestamp(activity.lastSeenAt);
+        }
+
+        try {
+            userMapper.updateActivity(ids.toArray(new Long[0]), lastLoginAt, lastSeenAt);
+            flushed.increment(ids.size());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("활동 시각 반영 실패 ({}명) - 다음 주기에 재시도: {}", ids.size(), e.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                pending.merge(ids.get(i), activities.get(i), Activity::latest);
+            }
+            return false;
+        }
+    }
+
+    private static final class Activity {
+        private final long lastLoginAt; // 0 이면 로그인 없음
+        private final long lastSeenAt;
+
+        private Activity(long lastLoginAt, long lastSeenAt) {
+            this.lastLoginAt = lastLoginAt;
+            this.lastSeenAt = lastSeenAt;
+        }
+
+        private static Activity latest(Activity a, Activity b) {
+            return new Activity(Math.max(a.lastLoginAt, b.lastLoginAt), Math.max(a.lastSeenAt, b.lastSeenAt));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.kduck.service;
+
+import com.kduck.common.BloomFilter;
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+// 이메일/사용자명 사용 가능 여부 - 메모리 Bloom filter 로 먼저 걸러서 "확실히 없음" 이면 DB 를 안 봄
+// 필터에 있을 수도 있다고 나올 때만 EXISTS 조회
+// 삭제는 필터에서 뺄 수 없으므로 주기적으로 새로 만들어 교체
+@Service
+public class UserAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+    private final UserMapper userMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+
+    // 아직 만들어지지 않았으면 null (그동안은 DB 로 확인)
+    private volatile Filters current;
+    // 재구성 중인 필터 - 그 사이 추가되는 값도 같이 넣음
+    private volatile Filters building;
+
+    private final Counter filterNegative;
+    private final Counter databaseTaken;
+    private final Counter databaseFree;
+
+    public UserAvailabilityService(UserMapper userMapper, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${user.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userMapper = userMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.filterNegative = Counter.builder("kduck.availability.checks").tag("result", "filter_negative").register(meterRegistry);
+        this.databaseTaken = Counter.builder("kduck.availability.checks").tag("result", "db_taken").register(meterRegistry);
+        this.databaseFree = Counter.builder("kduck.availability.checks").tag("result", "db_false_positive").register(meterRegistry);
+    }
+
+    public UserDto.AvailabilityResponse check(String email, String username) {
+        Filters filters = current;
+        Boolean emailAvailable = null;
+        if (email != null && !email.isBlank()) {
+            emailAvailable = !taken(filters == null ? null : filters.emails, normalizeEmail(email),
+                    () -> userMapper.existsByEmail(email));
+        }
+        Boolean usernameAvailable = null;
+        if (username != null && !username.isBlank()) {
+            usernameAvailable = !taken(filters == null ? null : filters.usernames, username,
+                    () -> userMapper.existsByUsername(username));
+        }
+        return new UserDto.AvailabilityResponse(emailAvailable, usernameAvailable);
+    }
+
+    // 새로 생기거나 바뀐 이메일/사용자명 반영 (가입, 수정, 대량 가져오기 후)
+    public void register(String email, String username) {
+        // building 을 먼저 읽어야 재구성 완료 직후 교체되는 사이에 값을 놓치지 않음
+        Filters next = building;
+        Filters filters = current;
+        if (next != null) {
+            next.put(email, username);
+        }
+        if (filters != null) {
+            filters.put(email, username);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${user.availability.initial-delay-ms:0}",
+            fixedDelayString = "${user.availability.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            // 재구성 주기 동안 늘어날 가입자를 감안해 추정 건수의 두 배로
+            long expected = Math.max(100_000, userMapper.estimateUserCount() * 2);
+            Filters next = new Filters(expected, falsePositiveRate);
+            building = next;
+            readOnlyTransaction.executeWithoutResult(status -> userMapper.forEachEmailAndUsername(next::put));
+            current = next;
+            log.info("사용자 가용성 필터 재구성 완료 ({} bytes)", next.emails.sizeInBytes() + next.usernames.sizeInBytes());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("사용자 가용성 필터 재구성 실패 - DB 조회로 대체: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private boolean taken(BloomFilter filter, String key, BooleanSupplier existsInDatabase) {
+        if (filter != null && !filter.mightContain(key)) {
+            filterNegative.increment();
+            return false;
+        }
+        boolean exists = existsInDatabase.getAsBoolean();
+        (exists ? databaseTaken : databaseFree).increment();
+        return exists;
+    }
+
+    // 필터에는 소문자로 넣음 (대소문자만 다른 이메일은 DB 조회로 확인)
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter usernames;
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.usernames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        private void put(String email, String username) {
+            if (email != null) {
+                emails.put(normalizeEmail(email));
+            }
+            if (username != null) {
+                usernames.put(username);
+            }
+        }
+    }
+}
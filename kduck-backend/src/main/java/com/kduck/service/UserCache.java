@@ -0,0 +1,301 @@
+package com.kduck.service;
+
+import com.kduck.dto.UserDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 사용자 read-through 캐시 - id / email / username 세 가지 키로 조회
+// 본체는 id 기준 한 벌만 저장하고 email, username 은 id 를 가리키는 인덱스
+@Component
+public class UserCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Long> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Long> byUsername = new ConcurrentHashMap<>();
+
+    // 삽입 순서 = 만료 순서 (TTL 고정), 크기/TTL 제거에 사용
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    // 같은 키에 대한 동시 miss 는 하나의 조회로 합침
+    private final Map<String, CompletableFuture<Optional<UserDto.Response>>> inFlight = new ConcurrentHashMap<>();
+
+    // 무효화 세대 - 조회 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserCache(@Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public Optional<UserDto.Response> getById(Long id, Supplier<Optional<UserDto.Response>> loader) {
+        return get("id:" + id, () -> lookup(id), loader);
+    }
+
+    public Optional<UserDto.Response> getByEmail(String email, Supplier<Optional<UserDto.Response>> loader) {
+        // 이메일은 대소문자 구분 없이 유일 (lower(email) 인덱스) - 키도 소문자로
+        String key = emailKey(email);
+        return get("email:" + key, () -> {
+            Entry entry = lookup(byEmail.get(key));
+            return entry != null && entry.user.getEmail() != null && key.equals(emailKey(entry.user.getEmail()))
+                    ? entry : null;
+        }, loader);
+    }
+
+    public Optional<UserDto.Response> getByUsername(String username, Supplier<Optional<UserDto.Response>> loader) {
+        return get("username:" + username, () -> {
+            Entry entry = lookup(byUsername.get(username));
+            return entry != null && username.equals(entry.user.getUsername()) ? entry : null;
+        }, loader);
+    }
+
+    // 여러 id 를 한 번에 - 캐시에 없는 id 만 모아서 loader 한 번으로 조회
+    public Map<Long, UserDto.Response> getAllById(Collection<Long> ids,
+                                                  Function<List<Long>, List<UserDto.Response>> loader) {
+        Map<Long, UserDto.Response> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Entry entry = lookup(id);
+            if (entry != null) {
+                found.put(id, copy(entry.user));
+            } else {
+                missing.add(id);
+            }
+        }
+        for (UserDto.Response user : loadAll(missing, ids.size(), loader)) {
+            found.put(user.getId(), copy(user));
+        }
+        return found;
+    }
+
+    public Map<String, UserDto.Response> getAllByUsername(Collection<String> usernames,
+                                                          Function<List<String>, List<UserDto.Response>> loader) {
+        Map<String, UserDto.Response> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String username : usernames) {
+            Entry entry = lookup(byUsername.get(username));
+            if (entry != null && username.equals(entry.user.getUsername())) {
+                found.put(username, copy(entry.user));
+            } else {
+                missing.add(username);
+            }
+        }
+        for (UserDto.Response user : loadAll(missing, usernames.size(), loader)) {
+            found.put(user.getUsername(), copy(user));
+        }
+        return found;
+    }
+
+    private <K> List<UserDto.Response> loadAll(List<K> missing, int requested,
+                                               Function<List<K>, List<UserDto.Response>> loader) {
+        hits.add(requested - missing.size());
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+        misses.add(missing.size());
+
+        long gen = generation.get();
+        List<UserDto.Response> loaded = loader.apply(missing);
+        for (UserDto.Response user : loaded) {
+            put(user, gen);
+        }
+        return loaded;
+    }
+
+    // 캐시에 있으면 버전(updated_at, 없으면 created_at)만 - 없으면 null (조회/적중 통계에 넣지 않음)
+    public LocalDateTime peekVersion(Long id) {
+        Entry entry = lookup(id);
+        if (entry == null) {
+            return null;
+        }
+        return entry.user.getUpdatedAt() != null ? entry.user.getUpdatedAt() : entry.user.getCreatedAt();
+    }
+
+    // 세 키를 함께 무효화
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        Entry entry = byId.remove(id);
+        if (entry != null) {
+            unindex(entry);
+        }
+    }
+
+    // kduck.user.cache.* 로 노출 (캐시 크기 조정용)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kduck.user.cache.hits", hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder("kduck.user.cache.misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder("kduck.user.cache.evictions", evictions, LongAdder::sum).register(registry);
+        Gauge.builder("kduck.user.cache.size", byId, Map::size).register(registry);
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("size", (long) byId.size());
+        return stats;
+    }
+
+    private Optional<UserDto.Response> get(String key, Supplier<Entry> cached, Supplier<Optional<UserDto.Response>> loader) {
+        Entry entry = cached.get();
+        if (entry != null) {
+            hits.increment();
+            return Optional.of(copy(entry.user));
+        }
+        misses.increment();
+
+        CompletableFuture<Optional<UserDto.Response>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<UserDto.Response>> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return existing.join().map(UserCache::copy);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            long gen = generation.get();
+            Optional<UserDto.Response> loaded = loader.get();
+            loaded.ifPresent(user -> put(user, gen));
+            mine.complete(loaded);
+            return loaded.map(UserCache::copy);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Entry lookup(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            if (byId.remove(id, entry)) {
+                unindex(entry);
+                evictions.increment();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(UserDto.Response user, long gen) {
+        if (user.getId() == null || generation.get() != gen) {
+            return;
+        }
+
+        Entry entry = new Entry(copy(user), System.currentTimeMillis() + ttlMillis);
+        Entry previous = byId.put(user.getId(), entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (user.getEmail() != null) {
+            byEmail.put(emailKey(user.getEmail()), user.getId());
+        }
+        if (user.getUsername() != null) {
+            byUsername.put(user.getUsername(), user.getId());
+        }
+        insertionOrder.add(entry);
+
+        // 넣는 사이에 무효화가 끼어들었으면 되돌림
+        if (generation.get() != gen && byId.remove(user.getId(), entry)) {
+            unindex(entry);
+        }
+
+        trim();
+    }
+
+    // 큐 앞쪽의 만료/교체된 항목을 정리하고 크기 초과분은 오래된 순으로 제거
+    private void trim() {
+        long now = System.currentTimeMillis();
+        Entry head;
+        while ((head = insertionOrder.peek()) != null) {
+            boolean current = byId.get(head.user.getId()) == head;
+            boolean expired = head.expiresAt <= now;
+            if (current && !expired && byId.size() <= maxSize) {
+                break;
+            }
+            if (insertionOrder.remove(head) && current && byId.remove(head.user.getId(), head)) {
+                unindex(head);
+                evictions.increment();
+            }
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private void unindex(Entry entry) {
+        UserDto.Response user = entry.user;
+        if (user.getEmail() != null) {
+            byEmail.remove(emailKey(user.getEmail()), user.getId());
+        }
+        if (user.getUsername() != null) {
+            byUsername.remove(user.getUsername(), user.getId());
+        }
+    }
+
+    // 호출자가 응답 객체를 수정해도 캐시 본체는 영향받지 않도록 복사본을 반환
+    private static UserDto.Response copy(UserDto.Response source) {
+        UserDto.Response user = new UserDto.Response();
+        user.setId(source.getId());
+        user.setUsername(source.getUsername());
+        user.setEmail(source.getEmail());
+        user.setNickname(source.getNickname());
+        user.setProfileImageUrl(source.getProfileImageUrl());
+        user.setAnonymous(source.isAnonymous());
+        user.setCreatedAt(source.getCreatedAt());
+        user.setUpdatedAt(source.getUpdatedAt());
+        return user;
+    }
+
+    private static final class Entry {
+        private final UserDto.Response user;
+        private final long expiresAt;
+
+        private Entry(UserDto.Response user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.kduck.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 사용자 전체 내보내기 - 서버 커서에서 읽은 행을 바로 응답으로 흘려보냄 (NDJSON / CSV)
+// 메모리에는 fetch size 만큼의 행과 출력 버퍼만 올라감
+// 클라이언트가 끊으면 쓰기에서 IOException -> 트랜잭션 롤백, 커서/커넥션 반환
+@Service
+public class UserExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final Logger log = LoggerFactory.getLogger(UserExportService.class);
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER =
+            "id,username,email,nickname,profile_image_url,is_anonymous,created_at,updated_at\n";
+
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UserExportService(UserMapper userMapper, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public long exportUsers(Format format, OutputStream response) throws IOException {
+        OutputStream out = new BufferedOutputStream(response, OUTPUT_BUFFER_SIZE);
+        long started = System.nanoTime();
+        try {
+            // PostgreSQL 은 autocommit 이 꺼져 있어야 fetch size 단위 커서로 동작
+            Long count = readOnlyTransaction.execute(status -> {
+                try (Stream<UserDto.Response> rows = userMapper.streamAll()) {
+                    return write(rows.iterator(), format, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            log.info("사용자 내보내기 완료 ({}건, {}ms)", count, (System.nanoTime() - started) / 1_000_000);
+            return count == null ? 0 : count;
+        } catch (UncheckedIOException e) {
+            log.info("사용자 내보내기 중단 - 클라이언트 연결 종료: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private long write(Iterator<UserDto.Response> rows, Format format, OutputStream out) throws IOException {
+        long count = 0;
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+        while (rows.hasNext()) {
+            UserDto.Response user = rows.next();
+            if (format == Format.CSV) {
+                out.write(csvLine(user).getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(objectMapper.writeValueAsBytes(user));
+                out.write('\n');
+            }
+            // 첫 행은 바로 내보냄 (이후는 버퍼가 찰 때마다)
+            if (++count == 1) {
+                out.flush();
+            }
+        }
+        return count;
+    }
+
+    private static String csvLine(UserDto.Response user) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(user.getId()).append(',');
+        appendCsv(sb, user.getUsername()).append(',');
+        appendCsv(sb, user.getEmail()).append(',');
+        appendCsv(sb, user.getNickname()).append(',');
+        appendCsv(sb, user.getProfileImageUrl()).append(',');
+        sb.append(user.isAnonymous()).append(',');
+        appendCsv(sb, user.getCreatedAt() == null ? null : user.getCreatedAt().toString()).append(',');
+        appendCsv(sb, user.getUpdatedAt() == null ? null : user.getUpdatedAt().toString());
+        return sb.append('\n').toString();
+    }
+
+    // RFC 4180 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 " 는 "" 로
+    static StringBuilder appendCsv(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return sb.append(value);
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+}
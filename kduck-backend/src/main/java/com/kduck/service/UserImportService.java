@@ -0,0 +1,328 @@
+package com.kduck.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// 대량 사용자 가져오기 - 입력을 batch-size 단위로 읽어 검증 -> 병렬 해시 -> 배치 INSERT
+// 입력 크기와 무관하게 한 번에 한 묶음만 메모리에 올리고 결과는 NDJSON 으로 바로 흘려보냄
+@Service
+public class UserImportService {
+
+    public enum Format { CSV, JSON }
+
+    private final UserMapper userMapper;
+    private final PasswordHasher passwordHasher;
+    private final UserAvailabilityService userAvailability;
+    private final UserSearchIndex searchIndex;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(UserMapper userMapper, PasswordHasher passwordHasher,
+                             UserAvailabilityService userAvailability, UserSearchIndex searchIndex,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${user.import.batch-size:1000}") int batchSize) {
+        this.userMapper = userMapper;
+        this.passwordHasher = passwordHasher;
+        this.userAvailability = userAvailability;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public UserDto.ImportSummary importUsers(InputStream in, Format format, OutputStream out) throws IOException {
+        UserDto.ImportSummary summary = new UserDto.ImportSummary();
+        Iterator<Row> rows = format == Format.CSV ? csvRows(in) : jsonRows(in);
+        List<Row> chunk = new ArrayList<>(batchSize);
+
+        // 입력 읽기만 try 안에서 - 묶음 처리 중 오류(해시 풀 종료 등)는 그대로 전달 (형식 오류로 보고하거나 다시 처리하지 않음)
+        RuntimeException readError = null;
+        while (true) {
+            Row row;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                row = rows.next();
+            } catch (RuntimeException e) {
+                // 입력 형식 오류 - 이후 행은 신뢰할 수 없으므로 중단
+                readError = e;
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, summary, out);
+                chunk.clear();
+            }
+        }
+
+        importChunk(chunk, summary, out);
+        if (readError != null) {
+            summary.setAborted(true);
+            writeLine(out, new UserDto.ImportRowResult("failed", summary.getTotal() + 1, null,
+                    "입력을 읽을 수 없습니다: " + readError.getMessage()));
+        }
+        writeLine(out, summary);
+        return summary;
+    }
+
+    private void importChunk(List<Row> chunk, UserDto.ImportSummary summary, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        summary.setTotal(summary.getTotal() + chunk.size());
+
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String error = validate(row.request);
+            if (error == null) {
+                valid.add(row);
+            } else {
+                summary.setInvalid(summary.getInvalid() + 1);
+                writeLine(out, new UserDto.ImportRowResult("invalid", row.number, row.request, error));
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            List<UserDto.Request> requests = new ArrayList<>(valid.size());
+            List<String> rawPasswords = new ArrayList<>(valid.size());
+            for (Row row : valid) {
+                requests.add(row.request);
+                rawPasswords.add(row.request.getPassword());
+            }
+            List<String> encodedPasswords = passwordHasher.encodeAll(rawPasswords);
+
+            List<UserDto.SearchResult> inserted;
+            int[] counts;
+            try {
+                inserted = userMapper.insertUsersIgnoringDuplicates(requests, encodedPasswords);
+                counts = insertedCounts(requests, inserted);
+            } catch (DataAccessException e) {
+                // 배치 전체가 실패하면 한 건씩 다시 넣어서 실패한 행을 찾음
+                inserted = new ArrayList<>();
+                counts = insertOneByOne(requests, encodedPasswords, valid, inserted, summary, out);
+            }
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    summary.setCreated(summary.getCreated() + 1);
+                    userAvailability.register(requests.get(i).getEmail(), requests.get(i).getUsername());
+                } else if (counts[i] == 0) {
+                    summary.setDuplicates(summary.getDuplicates() + 1);
+                    writeLine(out, new UserDto.ImportRowResult("duplicate", valid.get(i).number, requests.get(i),
+                            "이미 존재하는 이메일 또는 사용자명입니다."));
+                }
+            }
+            // 가져온 사용자도 바로 검색되도록 (다음 전체 재구성까지 기다리지 않음)
+            inserted.forEach(searchIndex::put);
+        }
+        out.flush();
+    }
+
+    // RETURNING 으로 돌아온 행을 입력 순서의 행별 결과(1: 생성, 0: 중복)로 - username 이 유니크하므로 이것으로 맞춤
+    private static int[] insertedCounts(List<UserDto.Request> requests, List<UserDto.SearchResult> inserted) {
+        Set<String> usernames = new HashSet<>();
+        for (UserDto.SearchResult user : inserted) {
+            usernames.add(user.getUsername());
+        }
+        int[] counts = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            counts[i] = usernames.remove(requests.get(i).getUsername()) ? 1 : 0;
+        }
+        return counts;
+    }
+
+    // 실패한 행은 -1 로 표시 (이미 보고함)
+    private int[] insertOneByOne(List<UserDto.Request> requests, List<String> encodedPasswords, List<Row> rows,
+                                 List<UserDto.SearchResult> inserted, UserDto.ImportSummary summary,
+                                 OutputStream out) throws IOException {
+        int[] counts = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                List<UserDto.SearchResult> row = userMapper.insertUsersIgnoringDuplicates(
+                        List.of(requests.get(i)), List.of(encodedPasswords.get(i)));
+                counts[i] = row.size();
+                inserted.addAll(row);
+            } catch (DataAccessException e) {
+                counts[i] = -1;
+                summary.setFailed(summary.getFailed() + 1);
+                writeLine(out, new UserDto.ImportRowResult("failed", rows.get(i).number, requests.get(i),
+                        e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return counts;
+    }
+
+    private String validate(UserDto.Request request) {
+        Set<ConstraintViolation<UserDto.Request>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ConstraintViolation<UserDto.Request> violation : violations) {
+            sb.append(violation.getPropertyPath())
+                    .append(": ")
+                    .append(violation.getMessage())
+                    .append("; ");
+        }
+        return sb.toString();
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    // JSON 배열 또는 줄 단위 JSON(NDJSON) 모두 지원 - 한 객체씩 읽음
+    private Iterator<Row> jsonRows(InputStream in) throws IOException {
+        MappingIterator<UserDto.Request> values = objectMapper.readerFor(UserDto.Request.class).readValues(in);
+        return new Iterator<>() {
+            private long number;
+
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                return new Row(++number, values.next());
+            }
+        };
+    }
+
+    // 첫 줄은 헤더 (username,email,password,nickname - 순서 무관)
+    private Iterator<Row> csvRows(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        Map<String, Integer> columns = new HashMap<>();
+        if (headerLine != null) {
+            List<String> header = parseCsvLine(stripBom(headerLine));
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(), i);
+            }
+        }
+
+        return new Iterator<>() {
+            private long number;
+            private String nextLine = readNonEmpty();
+
+            @Override
+            public boolean hasNext() {
+                return nextLine != null;
+            }
+
+            @Override
+            public Row next() {
+                if (nextLine == null) {
+                    throw new NoSuchElementException();
+                }
+                List<String> fields = parseCsvLine(nextLine);
+                nextLine = readNonEmpty();
+
+                UserDto.Request request = new UserDto.Request();
+                request.setUsername(field(fields, columns.get("username")));
+                request.setEmail(field(fields, columns.get("email")));
+                request.setPassword(field(fields, columns.get("password")));
+                request.setNickname(field(fields, columns.get("nickname")));
+                return new Row(++number, request);
+            }
+
+            private String readNonEmpty() {
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            return line;
+                        }
+                    }
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static String field(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    // RFC 4180 형식 한 줄 파싱 (따옴표, "" 이스케이프 지원 / 필드 안 줄바꿈은 미지원)
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표: " + line);
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static final class Row {
+        private final long number;
+        private final UserDto.Request request;
+
+        private Row(long number, UserDto.Request request) {
+            this.number = number;
+            this.request = request;
+        }
+    }
+}
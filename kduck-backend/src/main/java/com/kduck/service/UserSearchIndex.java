@@ -0,0 +1,265 @@
+package com.kduck.service;
+
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 사용자명/닉네임 검색 색인 (멘션 자동완성) - 메모리 정렬 맵에서 접두어 범위 조회
+// 색인 키: 이름 전체 + 단어 시작 위치부터의 부분 문자열 + 한글 음절 위치부터의 부분 문자열 (NFC + 소문자)
+// 한글이 들어간 이름은 초성 문자열도 색인 ("김철수" -> "ㄱㅊㅅ")
+// 쓰기는 UserService 에서 바로 반영하고, 놓친 변경은 주기적 재구성으로 맞춤
+@Component
+public class UserSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final int SYLLABLES_PER_JUNGSEONG = 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int MAX_SUFFIXES_PER_NAME = 16;
+
+    private final UserMapper userMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 첫 구성이 끝나기 전에는 비어 있음 (그 사이 검색은 빈 결과)
+    private volatile Index current = new Index();
+    private volatile Index building;
+
+    public UserSearchIndex(UserMapper userMapper, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.userMapper = userMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("kduck.user.search.index.users", this, s -> s.current.byId.size()).register(meterRegistry);
+        Gauge.builder("kduck.user.search.index.keys", this, s -> s.current.keys.size()).register(meterRegistry);
+    }
+
+    // 접두어 검색 - 이름 순으로 최대 limit 명
+    // 마지막 글자가 조합 중인 한글이면 이어질 수 있는 음절까지 포함 ("김철ㅅ" -> 김철수, 김철순 / "김철수" -> 김철숙)
+    @Timed("kduck.user.search")
+    public List<UserDto.SearchResult> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Index index = current;
+        Map<Long, UserDto.SearchResult> found = new LinkedHashMap<>();
+
+        String head = normalized.substring(0, normalized.length() - 1);
+        char last = normalized.charAt(normalized.length() - 1);
+        int choseong = CHOSEONG.indexOf(last);
+        if (choseong >= 0) {
+            collect(index, found, limit, head + last, head + last + Character.MAX_VALUE);
+            char first = (char) (HANGUL_BASE + choseong * SYLLABLES_PER_CHOSEONG);
+            collect(index, found, limit, head + first, head + (char) (first + SYLLABLES_PER_CHOSEONG));
+        } else if (isSyllable(last) && (last - HANGUL_BASE) % SYLLABLES_PER_JUNGSEONG == 0) {
+            collect(index, found, limit, normalized, head + (char) (last + SYLLABLES_PER_JUNGSEONG));
+        } else {
+            collect(index, found, limit, normalized, normalized + Character.MAX_VALUE);
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    public void put(UserDto.SearchResult user) {
+        Index next = building;
+        Index index = current;
+        if (next != null) {
+            next.put(user, false);
+        }
+        index.put(user, false);
+    }
+
+    public void remove(Long id) {
+        Index next = building;
+        Index index = current;
+        if (next != null) {
+            next.remove(id, true);
+        }
+        index.remove(id, false);
+    }
+
+    @Scheduled(initialDelayString = "${user.search.initial-delay-ms:0}",
+            fixedDelayString = "${user.search.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        try {
+            Index next = new Index();
+            building = next;
+            readOnlyTransaction.executeWithoutResult(status ->
+                    userMapper.forEachSearchResult(user -> next.put(user, true)));
+            next.removed.clear();
+            current = next;
+            log.info("사용자 검색 색인 재구성 완료 (users={}, keys={})", next.byId.size(), next.keys.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("사용자 검색 색인 재구성 실패 - 이전 색인 유지: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private static void collect(Index index, Map<Long, UserDto.SearchResult> found, int limit,
+                                String from, String to) {
+        if (found.size() >= limit) {
+            return;
+        }
+        NavigableMap<String, Long> range = index.keys.subMap(from, true, to, false);
+        for (Long id : range.values()) {
+            if (found.containsKey(id)) {
+                continue;
+            }
+            Indexed indexed = index.byId.get(id);
+            if (indexed == null) {
+                continue;
+            }
+            found.put(id, copy(indexed.user));
+            if (found.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        // NFC - 자모로 분해되어 들어온 입력을 음절로 합침 (NFKC 는 호환 자모 ㄱ 을 조합형으로 바꿔버리므로 사용하지 않음)
+        String normalized = Normalizer.normalize(value.strip(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_TERM_LENGTH ? normalized.substring(0, MAX_TERM_LENGTH) : normalized;
+    }
+
+    static Set<String> terms(UserDto.SearchResult user) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTerms(terms, normalize(user.getUsername()));
+        addTerms(terms, normalize(user.getNickname()));
+        return terms;
+    }
+
+    private static void addTerms(Set<String> terms, String name) {
+        if (name.isEmpty()) {
+            return;
+        }
+        addSuffixes(terms, name);
+        String choseong = toChoseong(name);
+        if (!choseong.equals(name)) {
+            addSuffixes(terms, choseong);
+        }
+    }
+
+    // 단어 시작과 한글 음절마다 부분 문자열 (한글 이름은 띄어쓰기 없이 "철수" 로도 찾을 수 있도록)
+    private static void addSuffixes(Set<String> terms, String name) {
+        int added = 0;
+        for (int i = 0; i < name.length() && added < MAX_SUFFIXES_PER_NAME; i++) {
+            char c = name.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            boolean wordStart = i == 0 || isSeparator(name.charAt(i - 1));
+            if (wordStart || isSyllable(c) || CHOSEONG.indexOf(c) >= 0) {
+                terms.add(name.substring(i));
+                added++;
+            }
+        }
+    }
+
+    private static String toChoseong(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append(isSyllable(c) ? CHOSEONG.charAt((c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG) : c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == '_' || c == '.' || c == '-';
+    }
+
+    private static UserDto.SearchResult copy(UserDto.SearchResult source) {
+        return new UserDto.SearchResult(source.getId(), source.getUsername(), source.getNickname(),
+                source.getProfileImageUrl());
+    }
+
+    // 색인 한 벌 - 조회는 락 없이, 변경은 색인 단위로 직렬화 (쓰기는 드묾)
+    private static final class Index {
+        // "검색어\0id" -> id (같은 검색어를 가진 사용자가 여럿일 수 있으므로 id 를 붙임)
+        private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+        private final Map<Long, Indexed> byId = new ConcurrentHashMap<>();
+        // 재구성 도중 삭제된 id - 스냅샷에서 다시 들어오지 않도록
+        private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+        // 스냅샷 행은 실시간 변경보다 오래됐을 수 있으므로 이미 있거나 삭제된 id 는 건너뜀
+        private synchronized void put(UserDto.SearchResult user, boolean fromSnapshot) {
+            Long id = user.getId();
+            if (fromSnapshot && (byId.containsKey(id) || removed.contains(id))) {
+                return;
+            }
+            removed.remove(id);
+            Indexed previous = byId.get(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            Indexed indexed = new Indexed(copy(user), terms(user));
+            for (String term : indexed.terms) {
+                keys.put(term + ID_SEPARATOR + id, id);
+            }
+            byId.put(id, indexed);
+        }
+
+        private synchronized void remove(Long id, boolean rememberRemoval) {
+            Indexed previous = byId.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            if (rememberRemoval) {
+                removed.add(id);
+            }
+        }
+
+        private void unindex(Long id, Indexed indexed) {
+            for (String term : indexed.terms) {
+                keys.remove(term + ID_SEPARATOR + id);
+            }
+        }
+    }
+
+    private static final class Indexed {
+        private final UserDto.SearchResult user;
+        private final Set<String> terms;
+
+        private Indexed(UserDto.SearchResult user, Set<String> terms) {
+            this.user = user;
+            this.terms = terms;
+        }
+    }
+}
@@ -1,105 +1,373 @@
 package com.kduck.service;
 
+import com.kduck.common.DomainException;
+import com.kduck.common.PageCursor;
+import com.kduck.common.VersionStamp;
+import com.kduck.config.ReadYourWrites;
 import com.kduck.dto.UserDto;
 import com.kduck.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 100;
+    public static final int DEFAULT_SEARCH_SIZE = 10;
+    public static final int MAX_SEARCH_SIZE = 50;
+
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
+    private final UserAvailabilityService userAvailability;
+    private final UserSearchIndex searchIndex;
+    private final TokenRevocationService tokenRevocationService;
+    private final ReadYourWrites readYourWrites;
 
     @Autowired
-    public UserService(UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public UserService(UserMapper userMapper, PasswordHasher passwordHasher, UserCache userCache,
+                       UserAvailabilityService userAvailability, UserSearchIndex searchIndex,
+                       TokenRevocationService tokenRevocationService, ReadYourWrites readYourWrites) {
         this.userMapper = userMapper;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.userCache = userCache;
+        this.userAvailability = userAvailability;
+        this.searchIndex = searchIndex;
+        this.tokenRevocationService = tokenRevocationService;
+        this.readYourWrites = readYourWrites;
     }
 
+    // 단일 INSERT ... RETURNING - 중복 여부는 유니크 제약 위반으로 판단 (검사-삽입 사이 경쟁 없음)
+    // 문장 하나라 트랜잭션이 필요 없고, 해시 계산 동안 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto.Response createUser(UserDto.Request request) {
-        // 이메일 중복 검사
-        if (userMapper.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("이미 존재하는 이메일입니다: " + request.getEmail());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+        UserDto.Response user;
+        try {
+            user = userMapper.insertUser(request, encodedPassword);
+        } catch (DuplicateKeyException e) {
+            throw duplicateUser(e, request);
         }
+        recordWrite(user);
+        userAvailability.register(user.getEmail(), user.getUsername());
+        searchIndex.put(searchResult(user));
+        return user;
+    }
 
-        // 사용자명 중복 검사
-        if (userMapper.existsByUsername(request.getUsername())) {
-            throw new RuntimeException("이미 존재하는 사용자명입니다: " + request.getUsername());
+    // 게스트 -> 일반 계정 전환 - createUser 와 같이 UPDATE ... RETURNING 한 문장, 중복은 유니크 제약으로 판단
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserDto.Response upgradeGuest(Long id, UserDto.Request request) {
+        if (isBlank(request.getUsername()) || isBlank(request.getEmail()) || isBlank(request.getPassword())) {
+            throw new DomainException.InvalidRequest("사용자명, 이메일, 비밀번호는 필수입니다.");
+        }
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+        UserDto.Response user;
+        try {
+            user = userMapper.upgradeGuest(id, request, encodedPassword)
+                    .orElseThrow(() -> new DomainException.Conflict("게스트 계정이 아닙니다: " + id));
+        } catch (DuplicateKeyException e) {
+            throw duplicateUser(e, request);
         }
+        recordWrite(user);
+        invalidateCache(id);
+        reindex(user);
+        return user;
+    }
 
-        return userMapper.insertUser(request);
+    // find* 는 없으면 empty (없는 게 흔한 경로 - 토큰 검증, 단건 조회 API), get* 은 없으면 DomainException.NotFound (404)
+    @Transactional(readOnly = true)
+    public Optional<UserDto.Response> findUserById(Long id) {
+        return userCache.getById(id, () -> readYourWrites.read(() -> userMapper.findById(id),
+                ReadYourWrites.idKey(id)));
     }
 
     @Transactional(readOnly = true)
     public UserDto.Response getUserById(Long id) {
-        return userMapper.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+        return findUserById(id).orElseThrow(() -> new DomainException.NotFound("사용자를 찾을 수 없습니다: " + id));
     }
 
     @Transactional(readOnly = true)
-    public UserDto.Response getUserByEmail(String email) {
+    public Optional<UserDto.Response> findUserByEmail(String email) {
 //        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
 //        System.out.println(email);
 //        OK
-        return userMapper.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + email));
+        return userCache.getByEmail(email, () -> readYourWrites.read(() -> userMapper.findByEmail(email),
+                ReadYourWrites.emailKey(email)));
+    }
+
+    @Transactional(readOnly = true)
+    public UserDto.Response getUserByEmail(String email) {
+        return findUserByEmail(email).orElseThrow(() -> new DomainException.NotFound("사용자를 찾을 수 없습니다: " + email));
     }
 
     @Transactional(readOnly = true)
     public UserDto.Response getUserByUsername(String username) {
-        return userMapper.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+        return userCache.getByUsername(username, () -> readYourWrites.read(() -> userMapper.findByUsername(username),
+                        ReadYourWrites.usernameKey(username)))
+                .orElseThrow(() -> new DomainException.NotFound("사용자를 찾을 수 없습니다: " + username));
     }
 
+    // 커서 기반 목록 조회 - 페이지마다 인덱스 범위 스캔 한 번
     @Transactional(readOnly = true)
-    public List<UserDto.Response> getAllUsers() {
-        return userMapper.findAll();
+    public UserDto.PageResponse getUsers(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<UserDto.Response> rows = after == null
+                ? userMapper.findPage(null, null, limit + 1)
+                : userMapper.findPage(after.getCreatedAt(), after.getId(), limit + 1);
+
+        if (rows.size() <= limit) {
+            return new UserDto.PageResponse(rows, null);
+        }
+
+        List<UserDto.Response> page = new ArrayList<>(rows.subList(0, limit));
+        UserDto.Response last = page.get(limit - 1);
+        String nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        return new UserDto.PageResponse(page, nextCursor);
     }
 
-    public UserDto.Response updateUser(Long id, UserDto.Request request) {
-        // 사용자 존재 확인
-        userMapper.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
-
-        // 이메일 변경 시 중복 검사
-        if (request.getEmail() != null) {
-            UserDto.Response currentUser = userMapper.findById(id).get();
-            if (!request.getEmail().equals(currentUser.getEmail()) &&
-                    userMapper.existsByEmail(request.getEmail())) {
-                throw new RuntimeException("이미 존재하는 이메일입니다: " + request.getEmail());
+    // 조건부 GET - 캐시에 있으면 캐시에서, 없으면 버전 컬럼만 조회
+    @Transactional(readOnly = true)
+    public Optional<VersionStamp> getUserVersion(Long id) {
+        LocalDateTime cached = userCache.peekVersion(id);
+        if (cached != null) {
+            return Optional.of(VersionStamp.ofUser(id, cached));
+        }
+        return readYourWrites.read(() -> userMapper.findVersionById(id), ReadYourWrites.idKey(id))
+                .map(version -> VersionStamp.ofUser(id, version));
+    }
+
+    // getUsers 와 같은 페이지의 버전 (본문 없이 id 와 버전만 조회)
+    @Transactional(readOnly = true)
+    public VersionStamp getUsersVersion(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = (cursor == null || cursor.isBlank()) ? null : PageCursor.decode(cursor);
+
+        Map<Long, LocalDateTime> rows = after == null
+                ? userMapper.findPageVersions(null, null, limit + 1)
+                : userMapper.findPageVersions(after.getCreatedAt(), after.getId(), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        Map<Long, LocalDateTime> page = new LinkedHashMap<>();
+        for (Map.Entry<Long, LocalDateTime> row : rows.entrySet()) {
+            if (page.size() == limit) {
+                break;
             }
+            page.put(row.getKey(), row.getValue());
+        }
+        return VersionStamp.ofPage(page, hasMore);
+    }
+
+    // 다건 조회 - 요청 내 중복 제거 후 캐시에 없는 것만 id / username 별로 한 번씩 조회
+    @Transactional(readOnly = true)
+    public UserDto.BatchResponse getUsersBatch(List<Long> ids, List<String> usernames) {
+        Set<Long> idKeys = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(idKeys::add);
+        }
+        Set<String> usernameKeys = new LinkedHashSet<>();
+        if (usernames != null) {
+            usernames.stream().filter(name -> name != null && !name.isBlank()).forEach(usernameKeys::add);
+        }
+        if (idKeys.size() + usernameKeys.size() > MAX_BATCH_SIZE) {
+            throw new DomainException.InvalidRequest("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 조회할 수 있습니다");
         }
 
-        // 사용자명 변경 시 중복 검사
-        if (request.getUsername() != null) {
-            UserDto.Response currentUser = userMapper.findById(id).get();
-            if (!request.getUsername().equals(currentUser.getUsername()) &&
-                    userMapper.existsByUsername(request.getUsername())) {
-                throw new RuntimeException("이미 존재하는 사용자명입니다: " + request.getUsername());
+        // 한 트랜잭션에서 같은 커넥션을 쓰므로 방금 쓴 사용자가 하나라도 있으면 전체를 primary 에서
+        List<String> writeKeys = new ArrayList<>();
+        idKeys.forEach(id -> writeKeys.add(ReadYourWrites.idKey(id)));
+        usernameKeys.forEach(username -> writeKeys.add(ReadYourWrites.usernameKey(username)));
+        Map<Long, UserDto.Response> foundById = new LinkedHashMap<>();
+        Map<String, UserDto.Response> foundByUsername = new LinkedHashMap<>();
+        readYourWrites.read(() -> {
+            if (!idKeys.isEmpty()) {
+                foundById.putAll(userCache.getAllById(idKeys, userMapper::findByIds));
+            }
+            if (!usernameKeys.isEmpty()) {
+                foundByUsername.putAll(userCache.getAllByUsername(usernameKeys, userMapper::findByUsernames));
+            }
+            return null;
+        }, writeKeys);
+
+        // 요청 순서대로, 같은 사용자는 한 번만
+        Map<Long, UserDto.Response> users = new LinkedHashMap<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : idKeys) {
+            UserDto.Response user = foundById.get(id);
+            if (user == null) {
+                notFoundIds.add(id);
+            } else {
+                users.putIfAbsent(user.getId(), user);
+            }
+        }
+        List<String> notFoundUsernames = new ArrayList<>();
+        for (String username : usernameKeys) {
+            UserDto.Response user = foundByUsername.get(username);
+            if (user == null) {
+                notFoundUsernames.add(username);
+            } else {
+                users.putIfAbsent(user.getId(), user);
             }
         }
 
-        return userMapper.updateUser(id, request);
+        return new UserDto.BatchResponse(new ArrayList<>(users.values()), notFoundIds, notFoundUsernames);
+    }
+
+    // 단일 UPDATE ... RETURNING - 존재 확인, 중복 검사, 변경, 재조회를 한 번에
+    public UserDto.Response updateUser(Long id, UserDto.Request request) {
+        UserDto.Response user;
+        try {
+            user = userMapper.updateUser(id, request)
+                    .orElseThrow(() -> new DomainException.NotFound("사용자를 찾을 수 없습니다: " + id));
+        } catch (DuplicateKeyException e) {
+            throw duplicateUser(e, request);
+        }
+
+        recordWrite(user);
+        invalidateCache(id);
+        reindex(user);
+        return user;
+    }
+
+    // 프로필 이미지 처리 완료 (ProfileImageService 백그라운드 스레드) - 그 사이 탈퇴했거나 더 나중 업로드가 반영됐으면 empty
+    public Optional<UserDto.Response> updateProfileImage(Long id, String profileImageUrl, LocalDateTime uploadedAt) {
+        Optional<UserDto.Response> user = userMapper.updateProfileImageUrl(id, profileImageUrl, uploadedAt);
+        user.ifPresent(updated -> {
+            recordWrite(updated);
+            invalidateCache(id);
+            reindex(updated);
+        });
+        return user;
     }
 
     public void deleteUser(Long id) {
-        userMapper.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + id));
+        if (!userMapper.deleteUser(id)) {
+            throw new DomainException.NotFound("사용자를 찾을 수 없습니다: " + id);
+        }
+        readYourWrites.record(ReadYourWrites.idKey(id));
+        // 탈퇴한 사용자의 남은 토큰 폐기 (같은 트랜잭션에서 기록)
+        tokenRevocationService.revokeAllForUser(id);
+        invalidateCache(id);
+        unindex(id);
+    }
+
+    // 멘션 자동완성 - 메모리 색인만 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserDto.SearchResult> searchUsers(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new DomainException.InvalidRequest("검색어가 필요합니다.");
+        }
+        return searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_SIZE));
+    }
 
-        userMapper.deleteUser(id);
+    // 필터에서 대부분 끝나므로 트랜잭션(커넥션)을 미리 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserDto.AvailabilityResponse checkAvailability(String email, String username) {
+        return userAvailability.check(email, username);
+    }
+
+    public Map<String, Long> getCacheStats() {
+        return userCache.stats();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserDto.Credentials> getCredentialsByEmail(String email) {
+        // 가입 직후 로그인
+        return readYourWrites.read(() -> userMapper.findCredentialsByEmail(email), ReadYourWrites.emailKey(email));
     }
 
     public boolean validatePassword(String email, String password) {
-        String storedPassword = userMapper.getPasswordByEmail(email);
-        if (storedPassword == null) {
-            return false;
+        return userMapper.findCredentialsByEmail(email)
+                .map(credentials -> passwordHasher.matches(password, credentials.getPassword()))
+                .orElse(false);
+    }
+
+    // 예전 cost 로 저장된 해시는 로그인 성공 후 백그라운드에서 현재 cost 로 다시 해시
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rehashPasswordIfNeeded(Long id, String rawPassword, String storedHash) {
+        if (!passwordHasher.needsRehash(storedHash)) {
+            return;
         }
-        return passwordEncoder.matches(password, storedPassword);
+        passwordHasher.encodeAsync(rawPassword, newHash -> userMapper.updatePassword(id, storedHash, newHash));
+    }
+
+    private RuntimeException duplicateUser(DuplicateKeyException e, UserDto.Request request) {
+        String column = UserMapper.duplicateColumn(e);
+        if ("email".equals(column)) {
+            return new DomainException.Conflict("이미 존재하는 이메일입니다: " + request.getEmail());
+        }
+        if ("username".equals(column)) {
+            return new DomainException.Conflict("이미 존재하는 사용자명입니다: " + request.getUsername());
+        }
+        // 어느 제약인지 모르는 유니크 위반도 409
+        return new DomainException.Conflict("이미 존재하는 이메일 또는 사용자명입니다.");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 복제 지연 동안 이 사용자 조회는 primary 에서
+    private void recordWrite(UserDto.Response user) {
+        readYourWrites.record(ReadYourWrites.idKey(user.getId()), ReadYourWrites.emailKey(user.getEmail()),
+                ReadYourWrites.usernameKey(user.getUsername()));
+    }
+
+    // 바뀐 이메일/사용자명을 가용성 필터와 검색 색인에 반영
+    // 커밋 전에 재구성 스냅샷이 찍혀도 빠지지 않도록 커밋 후 한 번 더
+    private void reindex(UserDto.Response user) {
+        Runnable apply = () -> {
+            userAvailability.register(user.getEmail(), user.getUsername());
+            searchIndex.put(searchResult(user));
+        };
+        apply.run();
+        afterCommit(apply);
+    }
+
+    private void unindex(Long id) {
+        searchIndex.remove(id);
+        afterCommit(() -> searchIndex.remove(id));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static UserDto.SearchResult searchResult(UserDto.Response user) {
+        return new UserDto.SearchResult(user.getId(), user.getUsername(), user.getNickname(),
+                user.getProfileImageUrl());
+    }
+
+    // 캐시 무효화 - 커밋 전 조회가 옛 값을 다시 채울 수 있으므로 커밋 후 한 번 더
+    private void invalidateCache(Long id) {
+        userCache.invalidate(id);
+        afterCommit(() -> userCache.invalidate(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+-- 사용자 테이블 - 이미 만들어진 DB 에서도 그대로 적용되도록 IF NOT EXISTS
+CREATE TABLE IF NOT EXISTS users (
+    id                BIGSERIAL    PRIMARY KEY,
+    username          VARCHAR(50)  NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    nickname          VARCHAR(100),
+    profile_image_url VARCHAR(500),
+    is_anonymous      BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at        TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at        TIMESTAMP
+);
+
+-- findByEmail / existsByEmail / findCredentialsByEmail (lower(email) = lower(?)) - 대소문자만 다른 이메일 중복 방지
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
+
+-- findByUsername / findByUsernames / existsByUsername
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_username ON users (username);
+
+-- findPage / findPageVersions 키셋 페이지네이션 (ORDER BY created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS ix_users_created_at_id ON users (created_at DESC, id DESC);
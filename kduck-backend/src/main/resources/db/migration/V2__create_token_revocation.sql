@@ -0,0 +1,19 @@
+-- 토큰 폐기 목록 - 토큰 만료 시각이 지나면 삭제
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP   NOT NULL,
+    revoked_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+-- 사용자별 폐기 기준 시각 - issued_before 이전에 발급된 그 사용자의 토큰은 모두 무효
+-- expires_at (= issued_before + 토큰 수명) 이 지나면 남은 토큰이 없으므로 삭제
+CREATE TABLE IF NOT EXISTS user_token_cutoffs (
+    user_id       BIGINT    PRIMARY KEY,
+    issued_before TIMESTAMP NOT NULL,
+    expires_at    TIMESTAMP NOT NULL,
+    revoked_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_user_token_cutoffs_expires_at ON user_token_cutoffs (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_token_cutoffs_revoked_at ON user_token_cutoffs (revoked_at);
@@ -0,0 +1,3 @@
+-- 마지막 로그인 / 활동 시각 (UserActivityRecorder 가 모아서 주기적으로 기록)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_login_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS last_seen_at TIMESTAMP;
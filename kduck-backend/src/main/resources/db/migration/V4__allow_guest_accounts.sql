@@ -0,0 +1,9 @@
+-- 게스트 계정 (is_anonymous) - 가입 전이라 사용자명/이메일/비밀번호가 없음
+-- 일반 계정은 여전히 셋 다 필요 (게스트 전환 시 함께 채움)
+ALTER TABLE users ALTER COLUMN username DROP NOT NULL;
+ALTER TABLE users ALTER COLUMN email DROP NOT NULL;
+ALTER TABLE users ALTER COLUMN password DROP NOT NULL;
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS ck_users_registered_fields;
+ALTER TABLE users ADD CONSTRAINT ck_users_registered_fields
+    CHECK (is_anonymous OR (username IS NOT NULL AND email IS NOT NULL AND password IS NOT NULL));
@@ -0,0 +1,2 @@
+-- 지금 profile_image_url 이 어느 업로드의 썸네일인지 (업로드 시각) - 늦게 끝난 이전 업로드의 썸네일이 새 이미지를 덮어쓰지 않도록
+ALTER TABLE users ADD COLUMN IF NOT EXISTS profile_image_uploaded_at TIMESTAMP;
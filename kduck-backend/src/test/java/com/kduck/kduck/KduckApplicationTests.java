@@ -3,7 +3,8 @@ package com.kduck.kduck;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// DB 없이 컨텍스트만 확인 - 마이그레이션은 UserMapperExplainTest 에서
+@SpringBootTest(properties = "spring.flyway.enabled=false")
 class KduckApplicationTests {
 
 	@Test
@@ -0,0 +1,319 @@
+package com.kduck.mapper;
+
+import com.kduck.dto.UserDto;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 마이그레이션으로 만든 스키마에서 매퍼 쿼리마다 EXPLAIN - Seq Scan 으로 떨어지는 쿼리가 있으면 실패
+// 빈 테이블에서는 플래너가 Seq Scan 을 고르므로 enable_seqscan = off 로 (쓸 수 있는 인덱스가 없을 때만 Seq Scan 이 남음)
+// 전체를 훑는 것이 목적인 streamAll / forEachEmailAndUsername / forEachSearchResult 는 제외
+// Docker 가 없으면 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+class UserMapperExplainTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+    private static final List<String> plans = new ArrayList<>();
+
+    private static UserMapper userMapper;
+    private static TokenRevocationMapper tokenRevocationMapper;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(explaining(connection), true));
+        userMapper = new UserMapper(jdbcTemplate);
+        tokenRevocationMapper = new TokenRevocationMapper(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @BeforeEach
+    void clearPlans() {
+        plans.clear();
+    }
+
+    @Test
+    void insertUser() {
+        userMapper.insertUser(request("insert_user", "insert@kduck.com"), "hash");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void insertUsersIgnoringDuplicates() {
+        userMapper.insertUsersIgnoringDuplicates(
+                List.of(request("batch_user", "batch@kduck.com")), List.of("hash"));
+        assertNoSeqScan();
+    }
+
+    @Test
+    void reserveUserIds() {
+        userMapper.reserveUserIds(100);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void insertGuests() {
+        long[] ids = userMapper.reserveUserIds(2);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        userMapper.insertGuests(new Long[]{ids[0], ids[1]}, new Timestamp[]{now, now});
+        assertNoSeqScan();
+    }
+
+    @Test
+    void upgradeGuest() {
+        userMapper.upgradeGuest(1L, request("upgraded_user", "upgraded@kduck.com"), "hash");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findById() {
+        userMapper.findById(1L);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByEmail() {
+        userMapper.findByEmail("User@Kduck.com");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByUsername() {
+        userMapper.findByUsername("user");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByIds() {
+        userMapper.findByIds(List.of(1L, 2L, 3L));
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findByUsernames() {
+        userMapper.findByUsernames(List.of("user1", "user2"));
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findFirstPage() {
+        userMapper.findPage(null, null, 20);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findNextPage() {
+        userMapper.findPage(LocalDateTime.now(), 100L, 20);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findVersionById() {
+        userMapper.findVersionById(1L);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findPageVersions() {
+        userMapper.findPageVersions(null, null, 20);
+        userMapper.findPageVersions(LocalDateTime.now(), 100L, 20);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void existsByEmail() {
+        userMapper.existsByEmail("User@Kduck.com");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void existsByUsername() {
+        userMapper.existsByUsername("user");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void estimateUserCount() {
+        userMapper.estimateUserCount();
+        assertNoSeqScan();
+    }
+
+    @Test
+    void updateUser() {
+        UserDto.Request request = new UserDto.Request();
+        request.setNickname("nick");
+        userMapper.updateUser(1L, request);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void updateProfileImageUrl() {
+        userMapper.updateProfileImageUrl(1L, "/api/images/thumbnail.jpg", LocalDateTime.now());
+        assertNoSeqScan();
+    }
+
+    @Test
+    void deleteUser() {
+        userMapper.deleteUser(1L);
+        assertNoSeqScan();
+    }
+
+    @Test
+    void updateActivity() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        userMapper.updateActivity(new Long[]{1L, 2L}, new Timestamp[]{now, null}, new Timestamp[]{now, now});
+        assertNoSeqScan();
+    }
+
+    @Test
+    void updatePassword() {
+        userMapper.updatePassword(1L, "old", "new");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void findCredentialsByEmail() {
+        userMapper.findCredentialsByEmail("User@Kduck.com");
+        assertNoSeqScan();
+    }
+
+    @Test
+    void tokenRevocationQueries() {
+        long now = System.currentTimeMillis();
+        tokenRevocationMapper.insertRevokedToken("jti", now + 60_000);
+        tokenRevocationMapper.upsertUserCutoff(1L, now, now + 60_000);
+        tokenRevocationMapper.forEachRevokedTokenSince(now - 60_000, (jti, expiresAt) -> { });
+        tokenRevocationMapper.forEachUserCutoffSince(now - 60_000, (userId, issuedBefore, expiresAt) -> { });
+        tokenRevocationMapper.deleteExpired();
+        assertNoSeqScan();
+    }
+
+    private static UserDto.Request request(String username, String email) {
+        UserDto.Request request = new UserDto.Request();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setNickname(username);
+        return request;
+    }
+
+    private static void assertNoSeqScan() {
+        assertFalse(plans.isEmpty(), "실행된 쿼리가 없습니다");
+        for (String plan : plans) {
+            assertFalse(plan.contains("Seq Scan"), () -> "Seq Scan 발생:\n" + plan);
+        }
+    }
+
+    // 쿼리를 실행하기 전에 같은 파라미터로 EXPLAIN 해서 plans 에 남기는 커넥션
+    private static Connection explaining(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement")) {
+                return explainingPreparedStatement((PreparedStatement) result, (String) args[0]);
+            }
+            if (method.getName().equals("createStatement")) {
+                return explainingStatement((Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement explainingPreparedStatement(PreparedStatement target, String sql) {
+        List<Object[]> parameters = new ArrayList<>();
+        boolean[] explained = {false};
+        return proxy(PreparedStatement.class, target, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new Object[]{method, args});
+            } else if (Set.of("execute", "executeQuery", "executeUpdate", "addBatch").contains(name)
+                    && (args == null || args.length == 0) && !explained[0]) {
+                // 배치는 첫 행으로 한 번만
+                explained[0] = true;
+                try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (Object[] parameter : parameters) {
+                        ((Method) parameter[0]).invoke(explain, (Object[]) parameter[1]);
+                    }
+                    plans.add(sql + "\n" + readPlan(explain.executeQuery()));
+                }
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private static Statement explainingStatement(Statement target) {
+        return proxy(Statement.class, target, (method, args) -> {
+            if (method.getName().startsWith("execute") && args != null && args.length == 1 && args[0] instanceof String sql) {
+                try (Statement explain = connection.createStatement()) {
+                    plans.add(sql + "\n" + readPlan(explain.executeQuery("EXPLAIN " + sql)));
+                }
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private static String readPlan(ResultSet rs) throws SQLException {
+        try (rs) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            try {
+                return handler.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
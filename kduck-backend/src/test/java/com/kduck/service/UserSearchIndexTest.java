@@ -0,0 +1,99 @@
+package com.kduck.service;
+
+import com.kduck.dto.UserDto;
+import com.kduck.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+// 검색 색인 자체만 - Spring 컨텍스트/DB 없이 put/remove 로 채워서 search 결과 확인 (rebuild 는 호출하지 않음)
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(new UserMapper(new JdbcTemplate()), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void choseongQueryMatchesHangulNames() {
+        index.put(user(1, "fan1", "김도윤"));
+        index.put(user(2, "fan2", "김다현"));
+        index.put(user(3, "fan3", "박도윤"));
+
+        assertEquals(List.of(1L, 2L), ids(index.search("ㄱㄷ", 10)));
+        // 음절 중간부터 ("도윤") 의 초성도 색인됨
+        assertEquals(List.of(1L, 3L), ids(index.search("ㄷㅇ", 10)));
+    }
+
+    @Test
+    void partialSyllableMatchesSyllablesThatCanFollow() {
+        index.put(user(1, "fan1", "김도윤"));
+        index.put(user(2, "fan2", "김다은"));
+        index.put(user(3, "fan3", "김철수"));
+        index.put(user(4, "fan4", "기석진"));
+
+        // 마지막 글자가 초성만 입력된 상태
+        assertEquals(List.of(2L, 1L), ids(index.search("김ㄷ", 10)));
+        // 받침 없는 음절은 받침이 붙은 음절까지 ("기" -> 기, 김, ...)
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids(index.search("기", 10)));
+        // 받침까지 입력하면 더 이상 넓히지 않음
+        assertEquals(List.of(2L, 1L, 3L), ids(index.search("김", 10)));
+    }
+
+    @Test
+    void latinQueryMatchesFromWordStartsCaseInsensitively() {
+        index.put(user(1, "kpop_lover", "Dance Queen"));
+        index.put(user(2, "idol.fan", null));
+
+        assertEquals(List.of(1L), ids(index.search("lover", 10)));
+        assertEquals(List.of(1L), ids(index.search("QUEEN", 10)));
+        assertEquals(List.of(2L), ids(index.search("fan", 10)));
+        // 단어 중간부터는 색인하지 않음
+        assertTrue(index.search("ove", 10).isEmpty());
+    }
+
+    @Test
+    void returnsTopKInNameOrder() {
+        index.put(user(1, "mina", null));
+        index.put(user(2, "minji", null));
+        index.put(user(3, "minho", null));
+        index.put(user(4, "minseo", null));
+
+        assertEquals(List.of(1L, 3L), ids(index.search("min", 2)));
+        assertEquals(List.of(1L, 3L, 2L, 4L), ids(index.search("min", 10)));
+    }
+
+    @Test
+    void renameDropsOldTerms() {
+        index.put(user(1, "oldname", "김도윤"));
+        index.put(user(1, "newname", "박서준"));
+
+        assertTrue(index.search("oldname", 10).isEmpty());
+        assertTrue(index.search("ㄱㄷ", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("newname", 10)));
+        assertEquals("박서준", index.search("ㅂㅅ", 10).get(0).getNickname());
+
+        index.remove(1L);
+        assertTrue(index.search("newname", 10).isEmpty());
+        assertTrue(index.search("ㅂㅅ", 10).isEmpty());
+    }
+
+    private static UserDto.SearchResult user(long id, String username, String nickname) {
+        return new UserDto.SearchResult(id, username, nickname, null);
+    }
+
+    private static List<Long> ids(List<UserDto.SearchResult> results) {
+        return results.stream().map(UserDto.SearchResult::getId).toList();
+    }
+}